@@ -0,0 +1,42 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.internal;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets the {@code FxThreadMonitor} of the schedulers package instrument the tasks which the other packages post to
+ * the JavaFX thread themselves. Not part of the API, the package is not exported by the module.
+ */
+public final class FxTaskHook {
+    private static volatile UnaryOperator<Runnable> instrumentation; // null until a monitor was started once
+
+    private FxTaskHook() {
+        // no instance
+    }
+
+    /**
+     * @return {@code task} itself, or a wrapper which records it if a monitor is started
+     */
+    public static Runnable instrument(Runnable task) {
+        UnaryOperator<Runnable> i = instrumentation;
+        return i != null ? i.apply(task) : task;
+    }
+
+    public static void install(UnaryOperator<Runnable> instrumentation) {
+        FxTaskHook.instrumentation = instrumentation;
+    }
+}
@@ -0,0 +1,687 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.observables;
+
+
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjavafx.sources.*;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.event.ActionEvent;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Backpressure-aware counterparts of the {@link JavaFxObservable} sources.
+ * By default values only keep the latest one, events are buffered up to {@link Flowable#bufferSize()} and then drop
+ * the oldest, and collection changes are buffered without bound. Every source has an overload which takes the
+ * {@link BackpressureStrategy} instead.
+ */
+public enum JavaFxFlowable {
+    ; // no instances
+
+
+    private static <T> Flowable<T> events(Observable<T> source) {
+        return source.toFlowable(BackpressureStrategy.MISSING)
+                .onBackpressureBuffer(Flowable.bufferSize(), null, BackpressureOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Node events.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static <T extends Event> Flowable<T> eventsOf(final Node node, final EventType<T> eventType) {
+        return events(JavaFxObservable.eventsOf(node, eventType));
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Node events, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T extends Event> Flowable<T> eventsOf(final Node node, final EventType<T> eventType, final BackpressureStrategy strategy) {
+        return JavaFxObservable.eventsOf(node, eventType).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Scene events.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static <T extends Event> Flowable<T> eventsOf(final Scene scene, final EventType<T> eventType) {
+        return events(JavaFxObservable.eventsOf(scene, eventType));
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Scene events, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T extends Event> Flowable<T> eventsOf(final Scene scene, final EventType<T> eventType, final BackpressureStrategy strategy) {
+        return JavaFxObservable.eventsOf(scene, eventType).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Window events.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static <T extends WindowEvent> Flowable<T> eventsOf(final Window window, final EventType<T> eventType) {
+        return events(JavaFxObservable.eventsOf(window, eventType));
+    }
+
+    /**
+     * Creates a Flowable of JavaFX Window events, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T extends WindowEvent> Flowable<T> eventsOf(final Window window, final EventType<T> eventType, final BackpressureStrategy strategy) {
+        return JavaFxObservable.eventsOf(window, eventType).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a Node.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final Node node) {
+        return events(JavaFxObservable.actionEventsOf(node));
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a Node, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final Node node, final BackpressureStrategy strategy) {
+        return JavaFxObservable.actionEventsOf(node).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a ContextMenu.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final ContextMenu contextMenu) {
+        return events(JavaFxObservable.actionEventsOf(contextMenu));
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a ContextMenu, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final ContextMenu contextMenu, final BackpressureStrategy strategy) {
+        return JavaFxObservable.actionEventsOf(contextMenu).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a MenuItem.
+     * Events which the subscriber isn't ready for are buffered up to a bounded capacity, beyond which the oldest are dropped.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final MenuItem menuItem) {
+        return events(JavaFxObservable.actionEventsOf(menuItem));
+    }
+
+    /**
+     * Creates a Flowable of the ActionEvents of a MenuItem, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<ActionEvent> actionEventsOf(final MenuItem menuItem, final BackpressureStrategy strategy) {
+        return JavaFxObservable.actionEventsOf(menuItem).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<T> valuesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.valuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> valuesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.valuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, with null values replaced by the nullSentinel.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<T> valuesOf(final ObservableValue<T> fxObservable, final T nullSentinel) {
+        return JavaFxObservable.valuesOf(fxObservable, nullSentinel).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, with null values replaced by the nullSentinel, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> valuesOf(final ObservableValue<T> fxObservable, final T nullSentinel, final BackpressureStrategy strategy) {
+        return JavaFxObservable.valuesOf(fxObservable, nullSentinel).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, wrapped in Optionals.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<Optional<T>> nullableValuesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.nullableValuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, wrapped in Optionals, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<Optional<T>> nullableValuesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.nullableValuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the old and new value of every change of an ObservableValue.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<Change<T>> changesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.changesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the old and new value of every change of an ObservableValue, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<Change<T>> changesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.changesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the changes of an ObservableValue where both the old and the new value are not null.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<Change<T>> nonNullChangesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.nonNullChangesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the changes of an ObservableValue where both the old and the new value are not null, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<Change<T>> nonNullChangesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.nonNullChangesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, sharing a single listener with all the other shared
+     * streams of the ObservableValue, see {@link JavaFxObservable#sharedValuesOf(ObservableValue)}.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<T> sharedValuesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.sharedValuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableValue, sharing a single listener, with the given strategy
+     * for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> sharedValuesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.sharedValuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the changes of an ObservableValue, sharing a single listener with all the other shared
+     * streams of the ObservableValue, see {@link JavaFxObservable#sharedChangesOf(ObservableValue)}.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<Change<T>> sharedChangesOf(final ObservableValue<T> fxObservable) {
+        return JavaFxObservable.sharedChangesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the changes of an ObservableValue, sharing a single listener, with the given strategy
+     * for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<Change<T>> sharedChangesOf(final ObservableValue<T> fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.sharedChangesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableDoubleValue, see {@link JavaFxObservable#doubleValuesOf(ObservableDoubleValue)}.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable) {
+        return JavaFxObservable.doubleValuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableDoubleValue, see {@link JavaFxObservable#doubleValuesOf(ObservableDoubleValue)}, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.doubleValuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableDoubleValue which changed by at least minDelta.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable, final double minDelta) {
+        return JavaFxObservable.doubleValuesOf(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableDoubleValue which changed by at least minDelta, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable, final double minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.doubleValuesOf(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableDoubleValue read at most once per JavaFX pulse.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Double> doubleValuesOnPulse(final ObservableDoubleValue fxObservable, final double minDelta) {
+        return JavaFxObservable.doubleValuesOnPulse(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableDoubleValue read at most once per JavaFX pulse, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Double> doubleValuesOnPulse(final ObservableDoubleValue fxObservable, final double minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.doubleValuesOnPulse(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableIntegerValue, see {@link JavaFxObservable#intValuesOf(ObservableIntegerValue)}.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Integer> intValuesOf(final ObservableIntegerValue fxObservable) {
+        return JavaFxObservable.intValuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableIntegerValue, see {@link JavaFxObservable#intValuesOf(ObservableIntegerValue)}, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Integer> intValuesOf(final ObservableIntegerValue fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.intValuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableIntegerValue which changed by at least minDelta.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Integer> intValuesOf(final ObservableIntegerValue fxObservable, final int minDelta) {
+        return JavaFxObservable.intValuesOf(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableIntegerValue which changed by at least minDelta, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Integer> intValuesOf(final ObservableIntegerValue fxObservable, final int minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.intValuesOf(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableIntegerValue read at most once per JavaFX pulse.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Integer> intValuesOnPulse(final ObservableIntegerValue fxObservable, final int minDelta) {
+        return JavaFxObservable.intValuesOnPulse(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableIntegerValue read at most once per JavaFX pulse, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Integer> intValuesOnPulse(final ObservableIntegerValue fxObservable, final int minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.intValuesOnPulse(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableLongValue, see {@link JavaFxObservable#longValuesOf(ObservableLongValue)}.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Long> longValuesOf(final ObservableLongValue fxObservable) {
+        return JavaFxObservable.longValuesOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the distinct values of an ObservableLongValue, see {@link JavaFxObservable#longValuesOf(ObservableLongValue)}, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Long> longValuesOf(final ObservableLongValue fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.longValuesOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableLongValue which changed by at least minDelta.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Long> longValuesOf(final ObservableLongValue fxObservable, final long minDelta) {
+        return JavaFxObservable.longValuesOf(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableLongValue which changed by at least minDelta, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Long> longValuesOf(final ObservableLongValue fxObservable, final long minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.longValuesOf(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableLongValue read at most once per JavaFX pulse.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<Long> longValuesOnPulse(final ObservableLongValue fxObservable, final long minDelta) {
+        return JavaFxObservable.longValuesOnPulse(fxObservable, minDelta).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the values of an ObservableLongValue read at most once per JavaFX pulse, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Long> longValuesOnPulse(final ObservableLongValue fxObservable, final long minDelta, final BackpressureStrategy strategy) {
+        return JavaFxObservable.longValuesOnPulse(fxObservable, minDelta).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the invalidations of a JavaFX Observable.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static Flowable<javafx.beans.Observable> invalidationsOf(final javafx.beans.Observable fxObservable) {
+        return JavaFxObservable.invalidationsOf(fxObservable).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of the invalidations of a JavaFX Observable, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<javafx.beans.Observable> invalidationsOf(final javafx.beans.Observable fxObservable, final BackpressureStrategy strategy) {
+        return JavaFxObservable.invalidationsOf(fxObservable).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableList every time it is modified.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<ObservableList<T>> emitOnChanged(final ObservableList<T> source) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableList every time it is modified, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<ObservableList<T>> emitOnChanged(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<T> additionsOf(final ObservableList<T> source) {
+        return JavaFxObservable.additionsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> additionsOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.additionsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<T> removalsOf(final ObservableList<T> source) {
+        return JavaFxObservable.removalsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> removalsOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.removalsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all updates of an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<T> updatesOf(final ObservableList<T> source) {
+        return JavaFxObservable.updatesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all updates of an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> updatesOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.updatesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all added, removed, updated and permutated items of an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<ListChange<T>> changesOf(final ObservableList<T> source) {
+        return JavaFxObservable.changesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all added, removed, updated and permutated items of an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<ListChange<T>> changesOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.changesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of one ListChangeBatch per change notification of an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<ListChangeBatch<T>> batchChangesOf(final ObservableList<T> source) {
+        return JavaFxObservable.batchChangesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of one ListChangeBatch per change notification of an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<ListChangeBatch<T>> batchChangesOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.batchChangesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed items of an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<ListChange<T>> distinctChangesOf(final ObservableList<T> source) {
+        return JavaFxObservable.distinctChangesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed items of an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<ListChange<T>> distinctChangesOf(final ObservableList<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.distinctChangesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed items of an ObservableList, based on a mapping to an R value.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T,R> Flowable<ListChange<T>> distinctChangesOf(final ObservableList<T> source, Function<T,R> mapper) {
+        return JavaFxObservable.distinctChangesOf(source, mapper).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed items of an ObservableList, based on a mapping to an R value, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T,R> Flowable<ListChange<T>> distinctChangesOf(final ObservableList<T> source, Function<T,R> mapper, final BackpressureStrategy strategy) {
+        return JavaFxObservable.distinctChangesOf(source, mapper).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed mappings of the items of an ObservableList.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T,R> Flowable<ListChange<R>> distinctMappingsOf(final ObservableList<T> source, Function<T,R> mapper) {
+        return JavaFxObservable.distinctMappingsOf(source, mapper).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of distinctly added and removed mappings of the items of an ObservableList, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T,R> Flowable<ListChange<R>> distinctMappingsOf(final ObservableList<T> source, Function<T,R> mapper, final BackpressureStrategy strategy) {
+        return JavaFxObservable.distinctMappingsOf(source, mapper).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableMap every time it is modified.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <K,T> Flowable<ObservableMap<K,T>> emitOnChanged(final ObservableMap<K,T> source) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableMap every time it is modified, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <K,T> Flowable<ObservableMap<K,T>> emitOnChanged(final ObservableMap<K,T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableMap.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <K,T> Flowable<Map.Entry<K,T>> additionsOf(final ObservableMap<K,T> source) {
+        return JavaFxObservable.additionsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableMap, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <K,T> Flowable<Map.Entry<K,T>> additionsOf(final ObservableMap<K,T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.additionsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableMap.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <K,T> Flowable<Map.Entry<K,T>> removalsOf(final ObservableMap<K,T> source) {
+        return JavaFxObservable.removalsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableMap, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <K,T> Flowable<Map.Entry<K,T>> removalsOf(final ObservableMap<K,T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.removalsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all added and removed entries of an ObservableMap.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <K,T> Flowable<MapChange<K,T>> changesOf(final ObservableMap<K,T> source) {
+        return JavaFxObservable.changesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all added and removed entries of an ObservableMap, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <K,T> Flowable<MapChange<K,T>> changesOf(final ObservableMap<K,T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.changesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableSet every time it is modified.
+     * Only the latest value is kept while the subscriber isn't ready for it.
+     */
+    public static <T> Flowable<ObservableSet<T>> emitOnChanged(final ObservableSet<T> source) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(BackpressureStrategy.LATEST);
+    }
+
+    /**
+     * Creates a Flowable of an ObservableSet every time it is modified, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<ObservableSet<T>> emitOnChanged(final ObservableSet<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.emitOnChanged(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableSet.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<T> additionsOf(final ObservableSet<T> source) {
+        return JavaFxObservable.additionsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all additions to an ObservableSet, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> additionsOf(final ObservableSet<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.additionsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableSet.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<T> removalsOf(final ObservableSet<T> source) {
+        return JavaFxObservable.removalsOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all removals from an ObservableSet, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<T> removalsOf(final ObservableSet<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.removalsOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of all added and removed items of an ObservableSet.
+     * Changes which the subscriber isn't ready for are buffered without bound, so none is lost and the JavaFX thread is never blocked.
+     */
+    public static <T> Flowable<SetChange<T>> changesOf(final ObservableSet<T> source) {
+        return JavaFxObservable.changesOf(source).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Creates a Flowable of all added and removed items of an ObservableSet, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static <T> Flowable<SetChange<T>> changesOf(final ObservableSet<T> source, final BackpressureStrategy strategy) {
+        return JavaFxObservable.changesOf(source).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of a 0L and ever increasing numbers after each duration.
+     * Ticks which the subscriber isn't ready for are dropped.
+     */
+    public static Flowable<Long> interval(final Duration duration) {
+        return JavaFxObservable.interval(duration).toFlowable(BackpressureStrategy.DROP);
+    }
+
+    /**
+     * Creates a Flowable of a 0L and ever increasing numbers after each duration, with the given strategy for the items the subscriber isn't ready for.
+     */
+    public static Flowable<Long> interval(final Duration duration, final BackpressureStrategy strategy) {
+        return JavaFxObservable.interval(duration).toFlowable(strategy);
+    }
+
+    /**
+     * Creates a Flowable of the timestamp in nanoseconds of every JavaFX pulse.
+     * Pulses which the subscriber isn't ready for are dropped.
+     */
+    public static Flowable<Long> pulses() {
+        return JavaFxObservable.pulses().toFlowable(BackpressureStrategy.DROP);
+    }
+}
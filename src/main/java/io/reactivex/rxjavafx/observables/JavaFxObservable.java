@@ -19,6 +19,9 @@ package io.reactivex.rxjavafx.observables;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjavafx.sources.*;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -110,6 +113,123 @@ public enum JavaFxObservable {
         return changesOf(fxObservable).filter(t -> t.getOldVal() != null && t.getNewVal() != null);
     }
 
+    /**
+     * Create an rx Observable from a JavaFX ObservableValue, which emits the current value on subscription like
+     * {@link #valuesOf(ObservableValue)}. All the Observables of the same ObservableValue share a single listener,
+     * which is added with the first subscriber and removed with the last one.
+     *
+     * @param fxObservable the observed ObservableValue
+     * @param <T>          the type of the observed value
+     * @return an Observable emitting values as the wrapped ObservableValue changes
+     */
+    public static <T> Observable<T> sharedValuesOf(final ObservableValue<T> fxObservable) {
+        return ObservableValueSource.sharedFromObservableValue(fxObservable);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableValue which emits changes with old and new value, like
+     * {@link #changesOf(ObservableValue)}. All the Observables of the same ObservableValue share a single listener,
+     * which is added with the first subscriber and removed with the last one.
+     *
+     * @param fxObservable the observed ObservableValue
+     * @param <T>          the type of the observed value
+     * @return an Observable emitting the changes as the wrapped ObservableValue changes
+     */
+    public static <T> Observable<Change<T>> sharedChangesOf(final ObservableValue<T> fxObservable) {
+        return ObservableValueSource.sharedFromObservableValueChanges(fxObservable);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableDoubleValue, which emits the current value and every value
+     * which differs from the last emitted one. The values are compared as primitives before they are boxed.
+     *
+     * @param fxObservable the observed ObservableDoubleValue
+     * @return an Observable emitting the distinct values of the ObservableDoubleValue
+     */
+    public static Observable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable) {
+        return PrimitiveValueSource.fromObservableDoubleValue(fxObservable, 0, false);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableDoubleValue, which emits the current value and every value
+     * which differs by at least {@code minDelta} from the last emitted one.
+     *
+     * @param fxObservable the observed ObservableDoubleValue
+     * @param minDelta     the smallest change which is emitted
+     * @return an Observable emitting the values of the ObservableDoubleValue
+     */
+    public static Observable<Double> doubleValuesOf(final ObservableDoubleValue fxObservable, final double minDelta) {
+        return PrimitiveValueSource.fromObservableDoubleValue(fxObservable, minDelta, false);
+    }
+
+    /**
+     * Like {@link #doubleValuesOf(ObservableDoubleValue, double)}, but reads the value at most once per JavaFX pulse,
+     * so a value which changes several times within a frame is only evaluated and emitted once.
+     */
+    public static Observable<Double> doubleValuesOnPulse(final ObservableDoubleValue fxObservable, final double minDelta) {
+        return PrimitiveValueSource.fromObservableDoubleValue(fxObservable, minDelta, true);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableIntegerValue, which emits the current value and every value
+     * which differs from the last emitted one. The values are compared as primitives before they are boxed.
+     *
+     * @param fxObservable the observed ObservableIntegerValue
+     * @return an Observable emitting the distinct values of the ObservableIntegerValue
+     */
+    public static Observable<Integer> intValuesOf(final ObservableIntegerValue fxObservable) {
+        return PrimitiveValueSource.fromObservableIntegerValue(fxObservable, 0, false);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableIntegerValue, which emits the current value and every value
+     * which differs by at least {@code minDelta} from the last emitted one.
+     *
+     * @param fxObservable the observed ObservableIntegerValue
+     * @param minDelta     the smallest change which is emitted
+     * @return an Observable emitting the values of the ObservableIntegerValue
+     */
+    public static Observable<Integer> intValuesOf(final ObservableIntegerValue fxObservable, final int minDelta) {
+        return PrimitiveValueSource.fromObservableIntegerValue(fxObservable, minDelta, false);
+    }
+
+    /**
+     * Like {@link #intValuesOf(ObservableIntegerValue, int)}, but reads the value at most once per JavaFX pulse.
+     */
+    public static Observable<Integer> intValuesOnPulse(final ObservableIntegerValue fxObservable, final int minDelta) {
+        return PrimitiveValueSource.fromObservableIntegerValue(fxObservable, minDelta, true);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableLongValue, which emits the current value and every value
+     * which differs from the last emitted one. The values are compared as primitives before they are boxed.
+     *
+     * @param fxObservable the observed ObservableLongValue
+     * @return an Observable emitting the distinct values of the ObservableLongValue
+     */
+    public static Observable<Long> longValuesOf(final ObservableLongValue fxObservable) {
+        return PrimitiveValueSource.fromObservableLongValue(fxObservable, 0, false);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableLongValue, which emits the current value and every value
+     * which differs by at least {@code minDelta} from the last emitted one.
+     *
+     * @param fxObservable the observed ObservableLongValue
+     * @param minDelta     the smallest change which is emitted
+     * @return an Observable emitting the values of the ObservableLongValue
+     */
+    public static Observable<Long> longValuesOf(final ObservableLongValue fxObservable, final long minDelta) {
+        return PrimitiveValueSource.fromObservableLongValue(fxObservable, minDelta, false);
+    }
+
+    /**
+     * Like {@link #longValuesOf(ObservableLongValue, long)}, but reads the value at most once per JavaFX pulse.
+     */
+    public static Observable<Long> longValuesOnPulse(final ObservableLongValue fxObservable, final long minDelta) {
+        return PrimitiveValueSource.fromObservableLongValue(fxObservable, minDelta, true);
+    }
+
     /**
      * Emits a JavaFX Observable every time it is invalidated.
      * @param fxObservable
@@ -227,15 +347,27 @@ public enum JavaFxObservable {
 
 
     /**
-     * Emits all added, removed, and updated items from an ObservableList
+     * Emits all added, removed, updated and permutated items from an ObservableList, with the indices to apply them
+     * to a copy of the list one after another. Within one step of a change the removals come before the additions.
      * @param source
-     * @return An Observable emitting changed items with an ADDED, REMOVED, or UPDATED flag
+     * @return An Observable emitting changed items with an ADDED, REMOVED, UPDATED, or PERMUTATED flag
      */
     public static <T> Observable<ListChange<T>> changesOf(final ObservableList<T> source) {
         return ObservableListSource.fromObservableListChanges(source);
     }
 
 
+    /**
+     * Emits one immutable ListChangeBatch per change notification of an ObservableList, holding the ranges, the
+     * added and removed elements and the permutations of all its steps. A bulk edit like setAll is a single item.
+     * @param source
+     * @return An Observable emitting a ListChangeBatch for each change of the ObservableList
+     */
+    public static <T> Observable<ListChangeBatch<T>> batchChangesOf(final ObservableList<T> source) {
+        return ObservableListSource.fromObservableListBatchChanges(source);
+    }
+
+
     /**
      * Emits distinctly  added and removed items from an ObservableList.
      * If dupe items with identical hashcode/equals evaluations are added to an ObservableList, only the first one will fire an ADDED item.
@@ -366,10 +498,26 @@ public enum JavaFxObservable {
         return TimerSource.interval(duration);
     }
 
+    /**
+     * Returns an Observable that emits the timestamp in nanoseconds of every JavaFX pulse on the JavaFX thread, as
+     * passed to {@link javafx.animation.AnimationTimer#handle(long)}. All subscribers share one AnimationTimer.
+     */
+    public static Observable<Long> pulses() {
+        return TimerSource.pulses();
+    }
+
     /**
      * Returns a Maybe that emits the T response  of a Dialog. If no response was given then the Maybe will be empty.
      */
     public static <T> Maybe<T> fromDialog(Dialog<T> dialog) {
         return DialogSource.fromDialogSource(dialog);
     }
+
+    /**
+     * Returns the factories which hold their JavaFX source weakly, for subscriptions which may outlive the scene they
+     * observe. Such an Observable completes once its source was garbage collected.
+     */
+    public static WeakJavaFxObservable weak() {
+        return WeakJavaFxObservable.INSTANCE;
+    }
 }
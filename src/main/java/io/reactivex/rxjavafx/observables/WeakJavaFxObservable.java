@@ -0,0 +1,167 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.observables;
+
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjavafx.sources.Change;
+import io.reactivex.rxjavafx.sources.Flag;
+import io.reactivex.rxjavafx.sources.ListChange;
+import io.reactivex.rxjavafx.sources.WeakObservableSource;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+/**
+ * The weakly referencing counterparts of the {@link JavaFxObservable} factories, see {@link JavaFxObservable#weak()}.
+ * The returned Observables don't keep their source reachable, neither does a subscription which is never disposed.
+ * A subscription lives as long as its source, even when nobody keeps its Disposable. When the source was garbage
+ * collected the Observable completes on the JavaFX thread, for the subscriptions whose Disposable is still kept.
+ */
+public final class WeakJavaFxObservable {
+    static final WeakJavaFxObservable INSTANCE = new WeakJavaFxObservable();
+
+    private WeakJavaFxObservable() {
+    }
+
+    /**
+     * Creates an observable corresponding to JavaFX Node events, holding the node weakly.
+     *
+     * @param node      The target of the UI events.
+     * @param eventType The type of the observed UI events
+     * @return An Observable of UI events, appropriately typed, which completes once the node was garbage collected
+     */
+    public <T extends Event> Observable<T> eventsOf(final Node node, final EventType<T> eventType) {
+        return WeakObservableSource.fromNodeEvents(node, eventType);
+    }
+
+    /**
+     * Creates an observable corresponding to JavaFX Scene events, holding the scene weakly.
+     *
+     * @param scene     The target of the UI events.
+     * @param eventType The type of the observed UI events
+     * @return An Observable of UI events, appropriately typed, which completes once the scene was garbage collected
+     */
+    public <T extends Event> Observable<T> eventsOf(final Scene scene, final EventType<T> eventType) {
+        return WeakObservableSource.fromSceneEvents(scene, eventType);
+    }
+
+    /**
+     * Creates an observable corresponding to JavaFX Window events, holding the window weakly.
+     *
+     * @param window    The target of the UI events.
+     * @param eventType The type of the observed UI events
+     * @return An Observable of UI events, appropriately typed, which completes once the window was garbage collected
+     */
+    public <T extends WindowEvent> Observable<T> eventsOf(final Window window, final EventType<T> eventType) {
+        return WeakObservableSource.fromWindowEvents(window, eventType);
+    }
+
+    /**
+     * Creates an observable corresponding to javafx Node action events, holding the node weakly.
+     *
+     * @param node The target of the ActionEvents
+     * @return An Observable of UI ActionEvents which completes once the node was garbage collected
+     */
+    public Observable<ActionEvent> actionEventsOf(final Node node) {
+        return WeakObservableSource.fromNodeEvents(node, ActionEvent.ACTION);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableValue, holding the ObservableValue weakly.
+     *
+     * @param fxObservable the observed ObservableValue
+     * @param <T>          the type of the observed value
+     * @return an Observable emitting non-null values as the wrapped ObservableValue changes, which completes once the
+     * ObservableValue was garbage collected
+     */
+    public <T> Observable<T> valuesOf(final ObservableValue<T> fxObservable) {
+        return WeakObservableSource.fromObservableValue(fxObservable);
+    }
+
+    /**
+     * Create an rx Observable from a JavaFX ObservableValue, emitting the old and new value in a Change and holding
+     * the ObservableValue weakly.
+     *
+     * @param fxObservable the observed ObservableValue
+     * @param <T>          the type of the observed value
+     * @return an Observable emitting changes as the wrapped ObservableValue changes, which completes once the
+     * ObservableValue was garbage collected
+     */
+    public <T> Observable<Change<T>> changesOf(final ObservableValue<T> fxObservable) {
+        return WeakObservableSource.fromObservableValueChanges(fxObservable);
+    }
+
+    /**
+     * Create an rx Observable from a javafx.beans.Observable, holding it weakly.
+     *
+     * @param fxObservable the observed javafx.beans.Observable
+     * @return an Observable emitting the javafx.beans.Observable every time it gets invalidated, which completes once
+     * it was garbage collected
+     */
+    public Observable<javafx.beans.Observable> invalidationsOf(final javafx.beans.Observable fxObservable) {
+        return WeakObservableSource.fromInvalidations(fxObservable);
+    }
+
+    /**
+     * Creates an observable that emits an ObservableList every time it is modified, holding the list weakly.
+     *
+     * @param source The target ObservableList of the ListChange events
+     * @return An Observable emitting the ObservableList each time it changes, which completes once the list was
+     * garbage collected
+     */
+    public <T> Observable<ObservableList<T>> emitOnChanged(final ObservableList<T> source) {
+        return WeakObservableSource.fromObservableList(source);
+    }
+
+    /**
+     * Creates an observable that emits all additions to an ObservableList, holding the list weakly.
+     *
+     * @param source The target ObservableList for the item add events
+     * @return An Observable emitting items added to the ObservableList, which completes once the list was garbage
+     * collected
+     */
+    public <T> Observable<T> additionsOf(final ObservableList<T> source) {
+        return changesOf(source).filter(c -> c.getFlag() == Flag.ADDED).map(ListChange::getValue);
+    }
+
+    /**
+     * Creates an observable that emits all removal items from an ObservableList, holding the list weakly.
+     *
+     * @param source The target ObservableList for the item removal events
+     * @return An Observable emitting items removed from the ObservableList, which completes once the list was
+     * garbage collected
+     */
+    public <T> Observable<T> removalsOf(final ObservableList<T> source) {
+        return changesOf(source).filter(c -> c.getFlag() == Flag.REMOVED).map(ListChange::getValue);
+    }
+
+    /**
+     * Emits all added, removed, updated and permutated items from an ObservableList, holding the list weakly.
+     *
+     * @param source The target ObservableList for the item events
+     * @return An Observable emitting changed items with an ADDED, REMOVED, UPDATED or PERMUTATED flag, which
+     * completes once the list was garbage collected
+     */
+    public <T> Observable<ListChange<T>> changesOf(final ObservableList<T> source) {
+        return WeakObservableSource.fromObservableListChanges(source);
+    }
+}
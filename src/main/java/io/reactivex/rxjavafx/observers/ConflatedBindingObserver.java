@@ -0,0 +1,122 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.observers;
+
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import javafx.beans.binding.Binding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A Binding which accepts values on any thread and keeps only the latest of them. The value changes and the
+ * listeners are notified on the JavaFX thread, at most once per JavaFX pulse.
+ */
+final class ConflatedBindingObserver<T> extends ObservableListenerHelper<T> implements Observer<T>, Subscriber<T>, ObservableValue<T>, Binding<T> {
+
+    private final    Consumer<Throwable> onError;
+    private final    AtomicReference<T>  latest = new AtomicReference<>(); /// the value not yet published, null if there is none
+    private final    AtomicInteger       wip    = new AtomicInteger();
+    private volatile Disposable          disposable;
+    private volatile Subscription        subscription;
+    private volatile T                   value; /// only written on the JavaFX thread
+
+    ConflatedBindingObserver(Consumer<Throwable> onError) {
+        this.onError = onError;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        this.disposable = d;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        this.subscription = s;
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onComplete() {
+        //do nothing
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        try {
+            onError.accept(e);
+        } catch (Throwable e1) {
+            e1.printStackTrace();
+        }
+    }
+
+    @Override
+    public void onNext(T t) {
+        latest.set(t);
+        if (wip.getAndIncrement() == 0) {
+            JavaFxScheduler.pulse().scheduleDirect(this::publish);
+        }
+    }
+
+    private void publish() {
+        // values arriving from here on schedule the next pulse
+        wip.set(0);
+        T t = latest.getAndSet(null);
+        if (t != null) {
+            value = t;
+            fireChange();
+        }
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public void invalidate() {
+        //does nothing
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void dispose() {
+        Disposable d = disposable;
+        if (d != null) {
+            d.dispose();
+        }
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+    }
+}
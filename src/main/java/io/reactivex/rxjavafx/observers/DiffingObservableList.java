@@ -0,0 +1,320 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.observers;
+
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import javafx.collections.ObservableListBase;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A read only ObservableList which follows the snapshots emitted by an Observable or a Flowable, see
+ * {@link JavaFxObserver#toObservableList(io.reactivex.rxjava3.core.Observable, Function)}.
+ * Every snapshot is compared to the previous one by the keys of its items on the computation scheduler.
+ * Items whose key is gone are removed, new keys are added, items which changed their position relative to the others
+ * are moved and items which are not equal to the previous item of their key are set. The longest run of items which
+ * kept their relative order stays in place. Each snapshot is applied on the JavaFX thread on the next pulse as a
+ * single change, so listeners like the cells of a TableView only see what actually changed.
+ * A snapshot which contains a key twice is applied by replacing the whole content.
+ */
+public final class DiffingObservableList<T> extends ObservableListBase<T> implements Disposable {
+
+    private final List<T>                         items   = new ArrayList<>(); /// only accessed on the JavaFX thread
+    private final ConcurrentLinkedQueue<Patch<T>> patches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                   wip     = new AtomicInteger();
+    private final Function<? super T, ?>          keyFunction;
+    private final Consumer<Throwable>             onError;
+    private final Upstream                        upstream = new Upstream();
+    private       List<T>                         previous = new ArrayList<>(); /// the last snapshot, only accessed by the emitting thread
+
+    DiffingObservableList(Function<? super T, ?> keyFunction, Consumer<Throwable> onError) {
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction is null");
+        this.onError = onError;
+    }
+
+    Upstream upstream() {
+        return upstream;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void dispose() {
+        upstream.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.disposed;
+    }
+
+    private void onSnapshot(List<T> snapshot) {
+        List<T> next = new ArrayList<>(snapshot);
+        patches.offer(diff(previous, next));
+        previous = next;
+        if (wip.getAndIncrement() == 0) {
+            JavaFxScheduler.pulse().scheduleDirect(this::drain);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        for (;;) {
+            for (Patch<T> patch; (patch = patches.poll()) != null; ) {
+                if (!upstream.disposed) {
+                    apply(patch);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void apply(Patch<T> patch) {
+        beginChange();
+        try {
+            if (patch.replacement != null) {
+                if (!items.isEmpty()) {
+                    nextRemove(0, new ArrayList<>(items));
+                    items.clear();
+                }
+                items.addAll(patch.replacement);
+                if (!items.isEmpty()) {
+                    nextAdd(0, items.size());
+                }
+                return;
+            }
+            for (int i = 0; i < patch.size; i++) {
+                int index = patch.indices[i];
+                switch (patch.ops[i]) {
+                    case Patch.REMOVE:
+                        nextRemove(index, items.remove(index));
+                        break;
+                    case Patch.ADD:
+                        items.add(index, patch.values.get(i));
+                        nextAdd(index, index + 1);
+                        break;
+                    default:
+                        nextSet(index, items.set(index, patch.values.get(i)));
+                        break;
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Computes the operations turning {@code prev} into {@code next}: all removals from the highest index down, then
+     * the additions and sets in ascending order of their index in {@code next}.
+     */
+    private Patch<T> diff(List<T> prev, List<T> next) {
+        final Map<Object, Integer> nextIndices = new HashMap<>(next.size() * 2);
+        for (int i = 0; i < next.size(); i++) {
+            if (nextIndices.put(keyFunction.apply(next.get(i)), i) != null) {
+                return new Patch<>(next);
+            }
+        }
+        final Map<Object, Integer> prevIndices = new HashMap<>(prev.size() * 2);
+        // the position in next of every previous item, -1 if its key is gone
+        final int[] targets = new int[prev.size()];
+        for (int i = 0; i < prev.size(); i++) {
+            Object key = keyFunction.apply(prev.get(i));
+            if (prevIndices.put(key, i) != null) {
+                return new Patch<>(next);
+            }
+            Integer target = nextIndices.get(key);
+            targets[i] = target == null ? -1 : target;
+        }
+
+        final boolean[] stays = longestIncreasingRun(targets);
+        // the previous item of every position in next which keeps its place
+        final boolean[] placed = new boolean[next.size()];
+        final Object[] kept = new Object[next.size()];
+        final Patch<T> patch = new Patch<>(prev.size() + next.size());
+        for (int i = prev.size() - 1; i >= 0; i--) {
+            if (stays[i]) {
+                placed[targets[i]] = true;
+                kept[targets[i]] = prev.get(i);
+            } else {
+                patch.add(Patch.REMOVE, i, null);
+            }
+        }
+        for (int j = 0; j < next.size(); j++) {
+            T item = next.get(j);
+            if (!placed[j]) {
+                patch.add(Patch.ADD, j, item);
+            } else if (!Objects.equals(kept[j], item)) {
+                patch.add(Patch.SET, j, item);
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * Marks the longest strictly increasing subsequence of the non negative {@code targets}, in O(n log n).
+     */
+    private static boolean[] longestIncreasingRun(int[] targets) {
+        final int n = targets.length;
+        final int[] tails = new int[n]; /// the index in targets of the smallest tail of a run of length i + 1
+        final int[] predecessors = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int target = targets[i];
+            if (target < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targets[tails[mid]] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        final boolean[] stays = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            stays[i] = true;
+        }
+        return stays;
+    }
+
+    private static final class Patch<T> {
+        static final byte REMOVE = 0;
+        static final byte ADD    = 1;
+        static final byte SET    = 2;
+
+        private final List<T> replacement; /// the whole content if the snapshot can't be diffed, null otherwise
+        private final byte[]  ops;
+        private final int[]   indices;
+        private final List<T> values;
+        private       int     size;
+
+        private Patch(List<T> replacement) {
+            this.replacement = replacement;
+            this.ops = null;
+            this.indices = null;
+            this.values = null;
+        }
+
+        private Patch(int capacity) {
+            this.replacement = null;
+            this.ops = new byte[capacity];
+            this.indices = new int[capacity];
+            this.values = new ArrayList<>();
+        }
+
+        private void add(byte op, int index, T value) {
+            ops[size] = op;
+            indices[size] = index;
+            values.add(value);
+            size++;
+        }
+    }
+
+    /**
+     * Subscribes to the snapshots, so the list itself doesn't expose the Observer and Subscriber methods.
+     */
+    final class Upstream implements Observer<List<T>>, Subscriber<List<T>> {
+        private volatile Disposable   disposable;
+        private volatile Subscription subscription;
+        private volatile boolean      disposed;
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.disposable = d;
+            if (disposed) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            if (disposed) {
+                s.cancel();
+            } else {
+                s.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(List<T> snapshot) {
+            try {
+                onSnapshot(snapshot);
+            } catch (Throwable e) {
+                dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            try {
+                onError.accept(e);
+            } catch (Throwable e1) {
+                e1.printStackTrace();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            //do nothing
+        }
+
+        private void dispose() {
+            disposed = true;
+            Disposable d = disposable;
+            if (d != null) {
+                d.dispose();
+            }
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+}
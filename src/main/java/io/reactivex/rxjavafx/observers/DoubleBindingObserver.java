@@ -0,0 +1,91 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.observers;
+
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Consumer;
+import javafx.beans.binding.DoubleBinding;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link DoubleBinding} which holds the latest Double emitted by an Observable or a Flowable as a primitive. Every value
+ * invalidates the binding, it is only recomputed when a dependent reads it.
+ */
+final class DoubleBindingObserver extends DoubleBinding implements Observer<Double>, Subscriber<Double> {
+
+    private final    Consumer<Throwable> onError;
+    private volatile Disposable          disposable;
+    private volatile Subscription        subscription;
+    private volatile double              value;
+
+    DoubleBindingObserver(Consumer<Throwable> onError) {
+        this.onError = onError;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        this.disposable = d;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        this.subscription = s;
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onComplete() {
+        //do nothing
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        try {
+            onError.accept(e);
+        } catch (Throwable e1) {
+            e1.printStackTrace();
+        }
+    }
+
+    @Override
+    public void onNext(Double t) {
+        try {
+            value = t.doubleValue();
+            invalidate();
+        } catch (Throwable e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    protected double computeValue() {
+        return value;
+    }
+
+    @Override
+    public void dispose() {
+        Disposable d = disposable;
+        if (d != null) {
+            d.dispose();
+        }
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+    }
+}
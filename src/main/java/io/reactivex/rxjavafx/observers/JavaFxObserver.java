@@ -15,14 +15,21 @@
  */
 package io.reactivex.rxjavafx.observers;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.observables.ConnectableObservable;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.reactivex.rxjavafx.observables.JavaFxObservable;
 import javafx.beans.binding.Binding;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
 import javafx.beans.value.ObservableValue;
 
 public enum JavaFxObserver {
@@ -83,6 +90,96 @@ public enum JavaFxObserver {
         return bindingObserver;
     }
 
+    /**
+     * Turns an Observable into an eager JavaFX Binding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * This variant accepts values on any thread and keeps only the latest, the Binding changes on the JavaFX thread at most once per JavaFX pulse.
+     */
+    public static <T> Binding<T> toConflatedBinding(Observable<T> obs) {
+        return toConflatedBinding(obs, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX Binding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * This variant accepts values on any thread and keeps only the latest, the Binding changes on the JavaFX thread at most once per JavaFX pulse.
+     */
+    public static <T> Binding<T> toConflatedBinding(Observable<T> obs, Consumer<Throwable> onErrorAction) {
+        ConflatedBindingObserver<T> bindingObserver = new ConflatedBindingObserver<>(onErrorAction);
+        obs.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX DoubleBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other DoubleBinding.
+     */
+    public static DoubleBinding toDoubleBinding(Observable<Double> obs) {
+        return toDoubleBinding(obs, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX DoubleBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other DoubleBinding.
+     */
+    public static DoubleBinding toDoubleBinding(Observable<Double> obs, Consumer<Throwable> onErrorAction) {
+        DoubleBindingObserver bindingObserver = new DoubleBindingObserver(onErrorAction);
+        obs.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX IntegerBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other IntegerBinding.
+     */
+    public static IntegerBinding toIntegerBinding(Observable<Integer> obs) {
+        return toIntegerBinding(obs, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX IntegerBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other IntegerBinding.
+     */
+    public static IntegerBinding toIntegerBinding(Observable<Integer> obs, Consumer<Throwable> onErrorAction) {
+        IntegerBindingObserver bindingObserver = new IntegerBindingObserver(onErrorAction);
+        obs.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX LongBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other LongBinding.
+     */
+    public static LongBinding toLongBinding(Observable<Long> obs) {
+        return toLongBinding(obs, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX LongBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other LongBinding.
+     */
+    public static LongBinding toLongBinding(Observable<Long> obs, Consumer<Throwable> onErrorAction) {
+        LongBindingObserver bindingObserver = new LongBindingObserver(onErrorAction);
+        obs.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX BooleanBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other BooleanBinding.
+     */
+    public static BooleanBinding toBooleanBinding(Observable<Boolean> obs) {
+        return toBooleanBinding(obs, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable into an eager JavaFX BooleanBinding that subscribes immediately to the Observable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other BooleanBinding.
+     */
+    public static BooleanBinding toBooleanBinding(Observable<Boolean> obs, Consumer<Throwable> onErrorAction) {
+        BooleanBindingObserver bindingObserver = new BooleanBindingObserver(onErrorAction);
+        obs.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
     /**
      * Turns an Observable into an lazy JavaFX Binding that subscribes to the Observable when its getValue() is called. Calling the Binding's dispose() method will handle the unsubscription.
      */
@@ -141,6 +238,24 @@ public enum JavaFxObserver {
         return bindingObserver;
     }
 
+    /**
+     * Turns an Observable of list snapshots into a read only ObservableList that subscribes immediately to the Observable. Calling the list's dispose() method will handle the unsubscription.
+     * Each snapshot is diffed against the previous one by the keys of its items off the JavaFX thread, and only the removals, additions, moves and sets are applied on the JavaFX thread as a single change per snapshot.
+     */
+    public static <T> DiffingObservableList<T> toObservableList(Observable<List<T>> obs, Function<? super T, ?> keyFunction) {
+        return toObservableList(obs, keyFunction, JavaFxObserver::onError);
+    }
+
+    /**
+     * Turns an Observable of list snapshots into a read only ObservableList that subscribes immediately to the Observable. Calling the list's dispose() method will handle the unsubscription.
+     * Each snapshot is diffed against the previous one by the keys of its items off the JavaFX thread, and only the removals, additions, moves and sets are applied on the JavaFX thread as a single change per snapshot.
+     */
+    public static <T> DiffingObservableList<T> toObservableList(Observable<List<T>> obs, Function<? super T, ?> keyFunction, Consumer<Throwable> onErrorAction) {
+        DiffingObservableList<T> list = new DiffingObservableList<>(keyFunction, onErrorAction);
+        obs.observeOn(Schedulers.computation()).subscribe(list.upstream());
+        return list;
+    }
+
     private static void onError(Throwable t) {
         RxJavaPlugins.onError(t);
     }
@@ -19,11 +19,18 @@ import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.flowables.ConnectableFlowable;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.reactivex.rxjavafx.observables.JavaFxObservable;
 import javafx.beans.binding.Binding;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
 import javafx.beans.value.ObservableValue;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 public enum JavaFxSubscriber {
     ;//no instances
@@ -83,6 +90,96 @@ public enum JavaFxSubscriber {
         return bindingSubscriber;
     }
 
+    /**
+     * Turns an Flowable into an eager JavaFX Binding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * This variant accepts values on any thread and keeps only the latest, the Binding changes on the JavaFX thread at most once per JavaFX pulse.
+     */
+    public static <T> Binding<T> toConflatedBinding(Flowable<T> flowable) {
+        return toConflatedBinding(flowable, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX Binding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * This variant accepts values on any thread and keeps only the latest, the Binding changes on the JavaFX thread at most once per JavaFX pulse.
+     */
+    public static <T> Binding<T> toConflatedBinding(Flowable<T> flowable, Consumer<Throwable> onErrorAction) {
+        ConflatedBindingObserver<T> bindingObserver = new ConflatedBindingObserver<>(onErrorAction);
+        flowable.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX DoubleBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other DoubleBinding.
+     */
+    public static DoubleBinding toDoubleBinding(Flowable<Double> flowable) {
+        return toDoubleBinding(flowable, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX DoubleBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other DoubleBinding.
+     */
+    public static DoubleBinding toDoubleBinding(Flowable<Double> flowable, Consumer<Throwable> onErrorAction) {
+        DoubleBindingObserver bindingObserver = new DoubleBindingObserver(onErrorAction);
+        flowable.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX IntegerBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other IntegerBinding.
+     */
+    public static IntegerBinding toIntegerBinding(Flowable<Integer> flowable) {
+        return toIntegerBinding(flowable, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX IntegerBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other IntegerBinding.
+     */
+    public static IntegerBinding toIntegerBinding(Flowable<Integer> flowable, Consumer<Throwable> onErrorAction) {
+        IntegerBindingObserver bindingObserver = new IntegerBindingObserver(onErrorAction);
+        flowable.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX LongBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other LongBinding.
+     */
+    public static LongBinding toLongBinding(Flowable<Long> flowable) {
+        return toLongBinding(flowable, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX LongBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other LongBinding.
+     */
+    public static LongBinding toLongBinding(Flowable<Long> flowable, Consumer<Throwable> onErrorAction) {
+        LongBindingObserver bindingObserver = new LongBindingObserver(onErrorAction);
+        flowable.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX BooleanBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other BooleanBinding.
+     */
+    public static BooleanBinding toBooleanBinding(Flowable<Boolean> flowable) {
+        return toBooleanBinding(flowable, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable into an eager JavaFX BooleanBinding that subscribes immediately to the Flowable. Calling the Binding's dispose() method will handle the unsubscription.
+     * The value is held as a primitive and dependents recompute lazily, as with any other BooleanBinding.
+     */
+    public static BooleanBinding toBooleanBinding(Flowable<Boolean> flowable, Consumer<Throwable> onErrorAction) {
+        BooleanBindingObserver bindingObserver = new BooleanBindingObserver(onErrorAction);
+        flowable.subscribe(bindingObserver);
+        return bindingObserver;
+    }
+
     /**
      * Turns an Flowable into an lazy JavaFX Binding that subscribes to the Flowable when its getValue() is called. Calling the Binding's dispose() method will handle the unsubscription.
      */
@@ -141,6 +238,24 @@ public enum JavaFxSubscriber {
         return bindingSubscriber;
     }
 
+    /**
+     * Turns an Flowable of list snapshots into a read only ObservableList that subscribes immediately to the Flowable. Calling the list's dispose() method will handle the unsubscription.
+     * Each snapshot is diffed against the previous one by the keys of its items off the JavaFX thread, and only the removals, additions, moves and sets are applied on the JavaFX thread as a single change per snapshot.
+     */
+    public static <T> DiffingObservableList<T> toObservableList(Flowable<List<T>> flowable, Function<? super T, ?> keyFunction) {
+        return toObservableList(flowable, keyFunction, JavaFxSubscriber::onError);
+    }
+
+    /**
+     * Turns an Flowable of list snapshots into a read only ObservableList that subscribes immediately to the Flowable. Calling the list's dispose() method will handle the unsubscription.
+     * Each snapshot is diffed against the previous one by the keys of its items off the JavaFX thread, and only the removals, additions, moves and sets are applied on the JavaFX thread as a single change per snapshot.
+     */
+    public static <T> DiffingObservableList<T> toObservableList(Flowable<List<T>> flowable, Function<? super T, ?> keyFunction, Consumer<Throwable> onErrorAction) {
+        DiffingObservableList<T> list = new DiffingObservableList<>(keyFunction, onErrorAction);
+        flowable.observeOn(Schedulers.computation()).subscribe(list.upstream());
+        return list;
+    }
+
     private static void onError(Throwable t) {
         RxJavaPlugins.onError(t);
     }
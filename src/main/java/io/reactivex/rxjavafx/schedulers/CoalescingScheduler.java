@@ -0,0 +1,103 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs keyed actions on the JavaFx UI thread once per JavaFX pulse, keeping only the latest action per key.
+ * An action scheduled under a key replaces the action which is still pending for the same key, so the work on the
+ * JavaFX thread scales with the number of keys, e.g. the visible cells of a grid, and not with the rate at which
+ * they are updated. Actions of different keys run in no particular order.
+ * This scheduler should only be used with actions that execute quickly.
+ */
+public final class CoalescingScheduler {
+    private final JavaFxPulseScheduler  scheduler;
+    private final Map<Object, Runnable> pending   = new ConcurrentHashMap<>();
+    private final AtomicBoolean         scheduled = new AtomicBoolean();
+    private final AtomicLong            coalesced = new AtomicLong();
+    private final Runnable              drain     = this::drain;
+
+    /* package for unit test */CoalescingScheduler(JavaFxPulseScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Runs {@code action} on one of the next pulses, unless it is replaced by another action for the same
+     * {@code key} or cancelled before.
+     *
+     * @param key    the key identifying the target of the action, compared by {@link Object#equals(Object)}
+     * @param action the action to run on the JavaFX thread
+     */
+    public void schedule(Object key, Runnable action) {
+        Objects.requireNonNull(key, "key is null");
+        Objects.requireNonNull(action, "action is null");
+        if (pending.put(key, RxJavaPlugins.onSchedule(action)) != null) {
+            coalesced.getAndIncrement();
+        }
+        if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+            scheduler.scheduleDirect(drain);
+        }
+    }
+
+    /**
+     * Removes the pending action of {@code key}.
+     *
+     * @return true if an action was pending for {@code key}
+     */
+    public boolean cancel(Object key) {
+        return pending.remove(key) != null;
+    }
+
+    /**
+     * @return the number of keys with an action waiting for the next pulse
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of actions which were replaced by a later action for the same key before they ran
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private void drain() {
+        // actions scheduled from here on schedule another drain, even if this one happens to run them already
+        scheduled.set(false);
+        for (Iterator<Map.Entry<Object, Runnable>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Object, Runnable> entry = it.next();
+            Runnable action = entry.getValue();
+            if (pending.remove(entry.getKey(), action)) {
+                try {
+                    action.run();
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    RxJavaPlugins.onError(e);
+                }
+            }
+        }
+    }
+}
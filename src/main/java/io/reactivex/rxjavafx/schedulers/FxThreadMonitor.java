@@ -0,0 +1,232 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.internal.FxTaskHook;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures the work which RxJavaFX puts on the JavaFX thread, to find the pipelines which cause dropped frames.
+ * While a monitor is started, every task queued by the {@link JavaFxScheduler} schedulers and by the
+ * {@code FxObservableTransformers}/{@code FxFlowableTransformers} {@code doOnXxxFx} operators records how long it
+ * waited in the queue and how long it ran. A watchdog thread captures the stack of the JavaFX thread when a task runs
+ * longer than the stall threshold, and reports it once per task.
+ * Only one monitor can be started at a time. While none is started the tasks aren't wrapped at all.
+ */
+public final class FxThreadMonitor implements Disposable {
+    private static final AtomicReference<FxThreadMonitor> CURRENT = new AtomicReference<>();
+
+    private final    LatencyHistogram        queueDelay = new LatencyHistogram();
+    private final    LatencyHistogram        runTime    = new LatencyHistogram();
+    private final    AtomicLong              stalls     = new AtomicLong();
+    private final    long                    thresholdNanos;
+    private final    Consumer<? super Stall> onStall;
+    private final    Thread                  watchdog;
+    private volatile Thread                  fxThread;
+    private volatile Running                 running; // the outermost running task, null when idle
+    private          long                    sequence; // only accessed on the JavaFX thread
+
+    private FxThreadMonitor(long thresholdNanos, Consumer<? super Stall> onStall) {
+        this.thresholdNanos = thresholdNanos;
+        this.onStall = onStall;
+        this.watchdog = new Thread(this::watch, "RxJavaFx-FxThreadWatchdog");
+        this.watchdog.setDaemon(true);
+    }
+
+    /**
+     * Starts monitoring the tasks RxJavaFX runs on the JavaFX thread.
+     *
+     * @param stallThreshold the run time of a task after which the stack of the JavaFX thread is captured
+     * @param onStall        called on the watchdog thread with every captured stall
+     * @throws IllegalStateException if another monitor is started
+     */
+    public static FxThreadMonitor start(long stallThreshold, TimeUnit unit, Consumer<? super Stall> onStall) {
+        Objects.requireNonNull(onStall, "onStall is null");
+        long thresholdNanos = unit.toNanos(stallThreshold);
+        if (thresholdNanos <= 0) {
+            throw new IllegalArgumentException("The stall threshold must be positive.");
+        }
+        FxThreadMonitor monitor = new FxThreadMonitor(thresholdNanos, onStall);
+        if (!CURRENT.compareAndSet(null, monitor)) {
+            throw new IllegalStateException("Another FxThreadMonitor is started, dispose it first.");
+        }
+        FxTaskHook.install(FxThreadMonitor::instrument);
+        monitor.watchdog.start();
+        return monitor;
+    }
+
+    /**
+     * Wraps a task which is about to be queued for the JavaFX thread, so the started monitor records it.
+     *
+     * @return {@code task} itself if no monitor is started
+     */
+    static Runnable instrument(Runnable task) {
+        FxThreadMonitor monitor = CURRENT.get();
+        if (monitor == null) {
+            return task;
+        }
+        final long enqueued = System.nanoTime();
+        return () -> monitor.measure(task, enqueued);
+    }
+
+    /**
+     * @return the time a task is queued at, or 0 if no monitor is started
+     */
+    static long enqueued() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Runs a task which was queued at {@code enqueued}, as returned by {@link #enqueued()}, and records it with the
+     * started monitor.
+     */
+    static void run(Runnable task, long enqueued) {
+        FxThreadMonitor monitor = CURRENT.get();
+        if (monitor == null || enqueued == 0L) {
+            task.run();
+        } else {
+            monitor.measure(task, enqueued);
+        }
+    }
+
+    /**
+     * @return the time the tasks waited between being queued and being started
+     */
+    public LatencyHistogram getQueueDelay() {
+        return queueDelay;
+    }
+
+    /**
+     * @return the time the tasks ran on the JavaFX thread
+     */
+    public LatencyHistogram getRunTime() {
+        return runTime;
+    }
+
+    /**
+     * @return the number of tasks which ran longer than the stall threshold
+     */
+    public long getStallCount() {
+        return stalls.get();
+    }
+
+    @Override
+    public void dispose() {
+        if (CURRENT.compareAndSet(this, null)) {
+            watchdog.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return CURRENT.get() != this;
+    }
+
+    private void measure(Runnable task, long enqueued) {
+        long start = System.nanoTime();
+        queueDelay.record(start - enqueued);
+        if (running != null) {
+            // nested, e.g. a worker drained from within another task, its run time is part of the outermost task
+            task.run();
+            return;
+        }
+        fxThread = Thread.currentThread();
+        running = new Running(++sequence, start);
+        try {
+            task.run();
+        } finally {
+            runTime.record(System.nanoTime() - start);
+            running = null;
+        }
+    }
+
+    private void watch() {
+        long checkMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(thresholdNanos / 4));
+        long reported = 0;
+        while (!isDisposed()) {
+            try {
+                Thread.sleep(checkMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            Running current = running;
+            if (current == null || current.task == reported) {
+                continue;
+            }
+            long duration = System.nanoTime() - current.since;
+            if (duration >= thresholdNanos) {
+                reported = current.task;
+                stalls.getAndIncrement();
+                Thread thread = fxThread;
+                StackTraceElement[] stackTrace = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+                try {
+                    onStall.accept(new Stall(duration, stackTrace));
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    RxJavaPlugins.onError(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The task and its start, published together so the watchdog never pairs a task with the start of another.
+     */
+    private static final class Running {
+        private final long task;
+        private final long since;
+
+        private Running(long task, long since) {
+            this.task = task;
+            this.since = since;
+        }
+    }
+
+    /**
+     * A task which ran longer than the stall threshold.
+     */
+    public static final class Stall {
+        private final long                durationNanos;
+        private final StackTraceElement[] stackTrace;
+
+        private Stall(long durationNanos, StackTraceElement[] stackTrace) {
+            this.durationNanos = durationNanos;
+            this.stackTrace = stackTrace;
+        }
+
+        /**
+         * @return how long the task had been running when the stack was captured
+         */
+        public long getDuration(TimeUnit unit) {
+            return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return the stack of the JavaFX thread while the task was running
+         */
+        public StackTraceElement[] getStackTrace() {
+            return stackTrace.clone();
+        }
+    }
+}
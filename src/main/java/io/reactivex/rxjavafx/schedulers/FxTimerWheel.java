@@ -0,0 +1,223 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hashed timer wheel holding all delayed actions of the JavaFX schedulers, advanced by a single {@link PulseTimer}.
+ * The wheel has {@link #WHEEL_SIZE} buckets of {@link #TICK_NANOS} each. A bucket is a doubly linked list of
+ * {@link Timeout}s, so adding and cancelling a timeout is O(1) and every pulse only visits the buckets of the ticks
+ * which passed since the last pulse.
+ * {@link #schedule(Runnable, long, TimeUnit)} and {@link Timeout#dispose()} may be called from any thread, they only
+ * hand the timeout over to the JavaFX thread which owns the buckets. Expired actions run on the JavaFX thread.
+ * Periodic timeouts are linked into their next bucket again after they ran, their deadlines advance by whole periods
+ * from the initial deadline so they don't drift, and ticks which were missed because the JavaFX thread was busy are
+ * skipped rather than run back to back.
+ * The wheel is advanced to the timestamp of the pulse, so all actions due in a frame see the same time and fire
+ * together.
+ */
+final class FxTimerWheel {
+    static final FxTimerWheel INSTANCE = new FxTimerWheel();
+
+    private static final int  WHEEL_SIZE = 512;
+    private static final int  MASK       = WHEEL_SIZE - 1;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Timeout[]                      buckets    = new Timeout[WHEEL_SIZE]; /// only accessed on the JavaFX thread
+    private final ConcurrentLinkedQueue<Timeout> additions  = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled  = new ConcurrentLinkedQueue<>();
+    private final AtomicLong                     size       = new AtomicLong(); /// timeouts neither expired nor removed
+    private       long                           lastTick   = Long.MIN_VALUE; /// only accessed on the JavaFX thread
+    private final PulseTimer                     timer      = new PulseTimer() {
+        @Override
+        protected void onPulse(long now) {
+            // the pulse timestamp is taken from System.nanoTime() as well, so it can be compared to the deadlines
+            advance(now);
+        }
+
+        @Override
+        protected boolean hasPendingWork() {
+            return size.get() != 0;
+        }
+    };
+
+    private FxTimerWheel() {
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX thread on the first pulse after {@code delay} has elapsed.
+     */
+    Timeout schedule(Runnable action, long delay, TimeUnit unit) {
+        return add(new Timeout(this, action, System.nanoTime() + unit.toNanos(delay), 0L, null));
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX thread on the first pulse after {@code initialDelay} has elapsed and then on
+     * the first pulse after each {@code period}, until the timeout or the {@code owner} is disposed. A periodic
+     * action which throws is cancelled.
+     *
+     * @param owner the worker the action belongs to, or null
+     */
+    Timeout schedulePeriodically(Runnable action, long initialDelay, long period, TimeUnit unit, Disposable owner) {
+        long periodNanos = Math.max(1L, unit.toNanos(period));
+        return add(new Timeout(this, action, System.nanoTime() + unit.toNanos(initialDelay), periodNanos, owner));
+    }
+
+    private Timeout add(Timeout timeout) {
+        size.getAndIncrement();
+        additions.offer(timeout);
+        timer.wake();
+        return timeout;
+    }
+
+    private void advance(long now) {
+        long tick = Math.floorDiv(now, TICK_NANOS);
+        if (lastTick == Long.MIN_VALUE) {
+            lastTick = tick - 1;
+        }
+
+        for (Timeout t; (t = cancelled.poll()) != null; ) {
+            unlink(t);
+            size.getAndDecrement();
+        }
+        for (Timeout t; (t = additions.poll()) != null; ) {
+            if (t.state.get() == Timeout.PENDING) {
+                link(t, Math.max(Math.floorDiv(t.deadline, TICK_NANOS), lastTick + 1));
+            }
+        }
+
+        // visiting every bucket once is enough, even when more than a full round passed since the last pulse
+        long ticks = Math.min(tick - lastTick, WHEEL_SIZE);
+        for (long i = 1; i <= ticks; i++) {
+            expire((int) ((lastTick + i) & MASK), tick, now);
+        }
+        lastTick = tick;
+    }
+
+    private void expire(int bucket, long tick, long now) {
+        Timeout t = buckets[bucket];
+        while (t != null) {
+            Timeout next = t.next;
+            if (Math.floorDiv(t.deadline, TICK_NANOS) <= tick) {
+                unlink(t);
+                if (t.period == 0L) {
+                    if (t.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) { // otherwise the cancellation decrements
+                        size.getAndDecrement();
+                        run(t);
+                    }
+                } else if (t.owner != null && t.owner.isDisposed()) {
+                    t.dispose();
+                } else if (t.state.get() == Timeout.PENDING) {
+                    run(t);
+                    if (t.state.get() == Timeout.PENDING) {
+                        long deadline = t.deadline + t.period;
+                        if (deadline <= now) {
+                            deadline += ((now - deadline) / t.period + 1) * t.period;
+                        }
+                        t.deadline = deadline;
+                        // never into a bucket which is still visited by this pulse
+                        link(t, Math.max(Math.floorDiv(deadline, TICK_NANOS), tick + 1));
+                    }
+                }
+            }
+            t = next;
+        }
+    }
+
+    private static void run(Timeout t) {
+        try {
+            // a timeout is measured from its deadline, so the queue delay is how late it ran
+            FxThreadMonitor.run(t.action, FxThreadMonitor.enqueued() != 0L ? t.deadline : 0L);
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            t.dispose();
+            RxJavaPlugins.onError(e);
+        }
+    }
+
+    private void link(Timeout t, long tick) {
+        int bucket = (int) (tick & MASK);
+        Timeout head = buckets[bucket];
+        t.bucket = bucket;
+        t.next = head;
+        if (head != null) {
+            head.prev = t;
+        }
+        buckets[bucket] = t;
+    }
+
+    private void unlink(Timeout t) {
+        if (t.bucket < 0) {
+            return;
+        }
+        if (t.prev != null) {
+            t.prev.next = t.next;
+        } else {
+            buckets[t.bucket] = t.next;
+        }
+        if (t.next != null) {
+            t.next.prev = t.prev;
+        }
+        t.prev = null;
+        t.next = null;
+        t.bucket = -1;
+    }
+
+    static final class Timeout implements Disposable {
+        private static final int PENDING   = 0;
+        private static final int EXPIRED   = 1;
+        private static final int CANCELLED = 2;
+
+        private final FxTimerWheel  wheel;
+        private final Runnable      action;
+        private final long          period; /// 0 for a single shot
+        private final Disposable    owner;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private long    deadline; /// the deadline and the bucket links are only accessed on the JavaFX thread after the timeout was added
+        private Timeout prev;
+        private Timeout next;
+        private int     bucket = -1;
+
+        private Timeout(FxTimerWheel wheel, Runnable action, long deadline, long period, Disposable owner) {
+            this.wheel = wheel;
+            this.action = action;
+            this.deadline = deadline;
+            this.period = period;
+            this.owner = owner;
+        }
+
+        @Override
+        public void dispose() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                wheel.cancelled.offer(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return state.get() != PENDING;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import javafx.application.Platform;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes deferrable work on the JavaFx UI thread in the idle time between two pulses.
+ * On every pulse a single {@link Platform#runLater(Runnable)} is posted, which runs after the pulse and after the
+ * events which were already queued, e.g. input. It runs the queued actions until the deadline of the next frame is
+ * {@link #MARGIN_NANOS} away and leaves the rest for the idle time of the next pulse. Like requestIdleCallback in
+ * the browsers, the actions may be delayed indefinitely while every frame uses up its full time.
+ */
+final class JavaFxIdleScheduler extends Scheduler {
+    private static final long FRAME_NANOS  = TimeUnit.SECONDS.toNanos(1) / 60;
+    private static final long MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+
+    private final ConcurrentLinkedQueue<IdleTask> queue    = new ConcurrentLinkedQueue<>();
+    private final Runnable                        idle     = this::runIdle;
+    private       long                            deadline; /// only accessed on the JavaFX thread
+    private       boolean                         posted; /// only accessed on the JavaFX thread
+    private final PulseTimer                      timer    = new PulseTimer() {
+        @Override
+        protected void onPulse(long now) {
+            deadline = System.nanoTime() + FRAME_NANOS - MARGIN_NANOS;
+            if (!posted) {
+                posted = true;
+                Platform.runLater(idle);
+            }
+        }
+
+        @Override
+        protected boolean hasPendingWork() {
+            return !queue.isEmpty();
+        }
+    };
+
+    @Override
+    public Worker createWorker() {
+        Scheduler test = TestJavaFxScheduler.installed();
+        if (test != null) {
+            return test.createWorker();
+        }
+        return new IdleWorker(this);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        Scheduler test = TestJavaFxScheduler.installed();
+        return test != null ? test.now(unit) : super.now(unit);
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run, long delay, TimeUnit unit) {
+        if (delay <= 0 && TestJavaFxScheduler.installed() == null) {
+            IdleTask task = new IdleTask(RxJavaPlugins.onSchedule(run), null);
+            enqueue(task);
+            return task;
+        }
+        return super.scheduleDirect(run, delay, unit);
+    }
+
+    private void enqueue(IdleTask task) {
+        task.enqueued = FxThreadMonitor.enqueued();
+        queue.offer(task);
+        timer.wake();
+    }
+
+    private void runIdle() {
+        posted = false;
+        while (System.nanoTime() < deadline) {
+            IdleTask task = queue.poll();
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
+
+    private static final class IdleTask implements Disposable, Runnable {
+        private final    IdleWorker worker; /// null for direct actions
+        private volatile Runnable   action;
+        private          long       enqueued; /// written before the task is queued
+
+        private IdleTask(Runnable action, IdleWorker worker) {
+            this.action = action;
+            this.worker = worker;
+        }
+
+        @Override
+        public void dispose() {
+            action = null;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return action == null;
+        }
+
+        @Override
+        public void run() {
+            Runnable action = this.action;
+            if (action != null && (worker == null || !worker.isDisposed())) {
+                this.action = null;
+                FxThreadMonitor.run(action, enqueued);
+            }
+        }
+    }
+
+    private static final class IdleWorker extends Worker {
+        private final    JavaFxIdleScheduler scheduler;
+        private volatile boolean             disposed;
+
+        private IdleWorker(JavaFxIdleScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public Disposable schedule(Runnable action, long delayTime, TimeUnit unit) {
+            long delay = Math.max(0, unit.toMillis(delayTime));
+            JavaFxScheduler.assertThatTheDelayIsValidForTheJavaFxTimer(delay);
+
+            if (disposed) {
+                return Disposable.disposed();
+            }
+
+            final IdleTask task = new IdleTask(action, this);
+            if (delay == 0) { // delay is too small for the java fx timer, queue it for the next idle time
+                scheduler.enqueue(task);
+                return task;
+            }
+
+            final Disposable timeout = FxTimerWheel.INSTANCE.schedule(() -> scheduler.enqueue(task), delay, TimeUnit.MILLISECONDS);
+
+            return Disposable.fromRunnable(() -> {
+                task.dispose();
+                timeout.dispose();
+            });
+        }
+    }
+}
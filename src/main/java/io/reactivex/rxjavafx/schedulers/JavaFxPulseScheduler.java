@@ -0,0 +1,318 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler.Priority;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes work on the JavaFx UI thread once per JavaFX pulse.
+ * All workers of this scheduler share a single queue which is drained by one {@link javafx.animation.AnimationTimer}
+ * on every pulse, so the traffic on the JavaFX event queue is bounded by the frame rate and not by the number of
+ * workers or tasks. Actions scheduled while the queue is drained run on the next pulse.
+ * An optional time budget limits how long a single pulse may spend draining, the remaining actions are run on the
+ * following pulses so a burst of work can't freeze the UI.
+ * The queue has a lane for every {@link Priority}, see {@link #withPriority(Priority)}. Each pulse empties the higher
+ * lanes first. A lane which was left waiting for {@value #AGING_PULSES} pulses in a row, because the budget was
+ * used up by the higher lanes, goes first on the next pulse, so a lower lane can't starve.
+ * This scheduler should only be used with actions that execute quickly.
+ */
+public final class JavaFxPulseScheduler extends Scheduler {
+    static final int AGING_PULSES = 4;
+
+    private final Lanes    lanes;
+    private final Priority priority;
+
+    /* package for unit test */JavaFxPulseScheduler() {
+        this(Long.MAX_VALUE);
+    }
+
+    /* package for unit test */JavaFxPulseScheduler(long budgetNanos) {
+        this(new Lanes(budgetNanos), Priority.NORMAL);
+    }
+
+    private JavaFxPulseScheduler(Lanes lanes, Priority priority) {
+        this.lanes = lanes;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns a scheduler which queues its actions in the lane of {@code priority}, and shares the drain, the
+     * queue of the other lanes and the time budget with this scheduler.
+     */
+    public JavaFxPulseScheduler withPriority(Priority priority) {
+        if (priority == this.priority) {
+            return this;
+        }
+        return new JavaFxPulseScheduler(lanes, Objects.requireNonNull(priority, "priority is null"));
+    }
+
+    /**
+     * @return the lane the actions of this scheduler are queued in
+     */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    @Override
+    public Worker createWorker() {
+        Scheduler test = TestJavaFxScheduler.installed();
+        if (test != null) {
+            return test.createWorker();
+        }
+        return new PulseWorker(this);
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run, long delay, TimeUnit unit) {
+        if (delay <= 0 && TestJavaFxScheduler.installed() == null) {
+            PulseTask task = new PulseTask(RxJavaPlugins.onSchedule(run), null);
+            enqueue(task);
+            return task;
+        }
+        return super.scheduleDirect(run, delay, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        Scheduler test = TestJavaFxScheduler.installed();
+        return test != null ? test.now(unit) : super.now(unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodicallyDirect(Runnable run, long initialDelay, long period, TimeUnit unit) {
+        Scheduler test = TestJavaFxScheduler.installed();
+        if (test != null) {
+            return test.schedulePeriodicallyDirect(run, initialDelay, period, unit);
+        }
+        return FxTimerWheel.INSTANCE.schedulePeriodically(RxJavaPlugins.onSchedule(run), initialDelay, period, unit, null);
+    }
+
+    /**
+     * @return the number of actions waiting in any of the lanes to be run on one of the next pulses
+     */
+    public long getBacklog() {
+        long backlog = 0;
+        for (Lane lane : lanes.lanes) {
+            backlog += lane.backlog.get();
+        }
+        return backlog;
+    }
+
+    /**
+     * @return the number of pulses which used up their time budget and left actions for the next pulse
+     */
+    public long getBudgetExceededCount() {
+        return lanes.exceeded.get();
+    }
+
+    private void enqueue(PulseTask task) {
+        lanes.enqueue(priority, task);
+    }
+
+    /**
+     * The lanes and the drain shared by the schedulers of all priorities.
+     */
+    private static final class Lanes {
+        private final Lane[]     lanes    = new Lane[Priority.values().length]; /// indexed by the ordinal, the highest priority first
+        private final AtomicLong exceeded = new AtomicLong();
+        private final long       budgetNanos;
+        private       boolean    progressed; /// whether the current pulse ran an action, only accessed on the JavaFX thread
+        private final PulseTimer timer    = new PulseTimer() {
+            @Override
+            protected void onPulse(long now) {
+                drain();
+            }
+
+            @Override
+            protected boolean hasPendingWork() {
+                for (Lane lane : lanes) {
+                    if (!lane.queue.isEmpty()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+
+        private Lanes(long budgetNanos) {
+            this.budgetNanos = budgetNanos;
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane();
+            }
+        }
+
+        private void enqueue(Priority priority, PulseTask task) {
+            task.enqueued = FxThreadMonitor.enqueued();
+            Lane lane = lanes[priority.ordinal()];
+            lane.backlog.getAndIncrement();
+            lane.queue.offer(task);
+            timer.wake();
+        }
+
+        private void drain() {
+            final boolean budgeted = budgetNanos != Long.MAX_VALUE;
+            final long start = budgeted ? System.nanoTime() : 0L;
+            progressed = false;
+            // only run what was queued before this pulse, so actions which reschedule themselves can't stall the pulse
+            for (Lane lane : lanes) {
+                lane.limit = lane.backlog.get();
+                lane.ran = false;
+            }
+            drain:
+            {
+                for (Lane lane : lanes) {
+                    if (lane.starved >= AGING_PULSES && !drain(lane, budgeted, start)) {
+                        break drain;
+                    }
+                }
+                for (Lane lane : lanes) {
+                    if (!drain(lane, budgeted, start)) {
+                        break drain;
+                    }
+                }
+            }
+            for (Lane lane : lanes) {
+                lane.starved = lane.limit > 0 && !lane.ran ? lane.starved + 1 : 0;
+            }
+        }
+
+        /**
+         * The budget is only checked once the pulse ran an action, so even a pulse which starts late makes progress.
+         *
+         * @return false if the budget of this pulse was used up
+         */
+        private boolean drain(Lane lane, boolean budgeted, long start) {
+            for (; lane.limit > 0; lane.limit--) {
+                if (budgeted && progressed && System.nanoTime() - start >= budgetNanos) {
+                    exceeded.getAndIncrement();
+                    return false;
+                }
+                PulseTask task = lane.queue.poll();
+                if (task == null) {
+                    lane.limit = 0;
+                    break;
+                }
+                lane.backlog.getAndDecrement();
+                lane.ran = true;
+                progressed = true;
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    RxJavaPlugins.onError(e);
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Lane {
+        private final ConcurrentLinkedQueue<PulseTask> queue   = new ConcurrentLinkedQueue<>();
+        private final AtomicLong                       backlog = new AtomicLong();
+        private       long                             limit; /// the actions of this lane left to run in the current pulse, only accessed on the JavaFX thread
+        private       boolean                          ran; /// only accessed on the JavaFX thread
+        private       int                              starved; /// pulses in a row this lane was left waiting, only accessed on the JavaFX thread
+    }
+
+    private static final class PulseTask implements Disposable, Runnable {
+        private final    PulseWorker worker; /// null for direct actions
+        private volatile Runnable    action;
+        private          long        enqueued; /// written before the task is queued
+
+        private PulseTask(Runnable action, PulseWorker worker) {
+            this.action = action;
+            this.worker = worker;
+        }
+
+        @Override
+        public void dispose() {
+            action = null;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return action == null;
+        }
+
+        @Override
+        public void run() {
+            Runnable action = this.action;
+            if (action != null && (worker == null || !worker.isDisposed())) {
+                this.action = null;
+                FxThreadMonitor.run(action, enqueued);
+            }
+        }
+    }
+
+    private static final class PulseWorker extends Worker {
+        private final    JavaFxPulseScheduler scheduler;
+        private volatile boolean              disposed;
+
+        private PulseWorker(JavaFxPulseScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable action, long initialDelay, long period, TimeUnit unit) {
+            if (disposed) {
+                return Disposable.disposed();
+            }
+            return FxTimerWheel.INSTANCE.schedulePeriodically(RxJavaPlugins.onSchedule(action), initialDelay, period, unit, this);
+        }
+
+        @Override
+        public Disposable schedule(Runnable action, long delayTime, TimeUnit unit) {
+            long delay = Math.max(0, unit.toMillis(delayTime));
+            JavaFxScheduler.assertThatTheDelayIsValidForTheJavaFxTimer(delay);
+
+            if (disposed) {
+                return Disposable.disposed();
+            }
+
+            final PulseTask task = new PulseTask(action, this);
+            if (delay == 0) { // delay is too small for the java fx timer, queue it for the next pulse
+                scheduler.enqueue(task);
+                return task;
+            }
+
+            final Disposable timeout = FxTimerWheel.INSTANCE.schedule(() -> scheduler.enqueue(task), delay, TimeUnit.MILLISECONDS);
+
+            return Disposable.fromRunnable(() -> {
+                task.dispose();
+                timeout.dispose();
+            });
+        }
+    }
+}
@@ -17,29 +17,142 @@ package io.reactivex.rxjavafx.schedulers;
 
 import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.disposables.Disposable;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import javafx.application.Platform;
 import javafx.util.Duration;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Executes work on the JavaFx UI thread.
  * This scheduler should only be used with actions that execute quickly.
  */
 public final class JavaFxScheduler extends Scheduler {
-    private static final JavaFxScheduler INSTANCE = new JavaFxScheduler();
+    private static final JavaFxScheduler        INSTANCE   = new JavaFxScheduler();
+    private static final JavaFxPulseScheduler   PULSE      = new JavaFxPulseScheduler();
+    private static final Scheduler              IDLE       = new JavaFxIdleScheduler();
+    private static final JavaFxPulseScheduler[] PRIORITIES = {
+            PULSE.withPriority(Priority.HIGH), PULSE, PULSE.withPriority(Priority.LOW)
+    };
+
+    /**
+     * The lanes of the {@link JavaFxPulseScheduler}, from the highest to the lowest priority.
+     */
+    public enum Priority {
+        /** Work which answers user input, like applying the result of a click. */
+        HIGH,
+        /** Work which should be visible on the next frame, the lane of {@link #pulse()}. */
+        NORMAL,
+        /** Bulk and background updates, like refreshing the rows of a large table. */
+        LOW
+    }
+
+    private static final int DEFAULT_BUFFER_SIZE = 128;
+
+    private final int bufferSize; /// 0 for the linked queue of the default scheduler
 
     /* package for unit test */JavaFxScheduler() {
+        this(0);
+    }
+
+    /* package for unit test */JavaFxScheduler(int bufferSize) {
+        this.bufferSize = bufferSize;
     }
 
     public static JavaFxScheduler platform() {
         return INSTANCE;
     }
 
-    private static void assertThatTheDelayIsValidForTheJavaFxTimer(long delay) {
+    /**
+     * Returns a scheduler which collects the work of all its workers in one shared queue and drains it once per
+     * JavaFX pulse, instead of posting a {@link Platform#runLater(Runnable)} for every worker.
+     */
+    public static JavaFxPulseScheduler pulse() {
+        return PULSE;
+    }
+
+    /**
+     * Returns the scheduler of the {@code priority} lane of {@link #pulse()}. All lanes are drained by the same loop
+     * once per JavaFX pulse, which always empties the higher lanes first, so a batch of {@link Priority#LOW} updates
+     * doesn't delay the {@link Priority#HIGH} work of the same frame.
+     */
+    public static JavaFxPulseScheduler platform(Priority priority) {
+        return PRIORITIES[priority.ordinal()];
+    }
+
+    /**
+     * Returns a new pulse scheduler which stops running actions once {@code budgetPerPulse} is used up within a
+     * single JavaFX pulse. The remaining actions are picked up on the next pulse, so a large backlog delays the
+     * work rather than the rendering of the frames. See {@link JavaFxPulseScheduler#getBacklog()} and
+     * {@link JavaFxPulseScheduler#getBudgetExceededCount()} for the backlog left over, and
+     * {@link JavaFxPulseScheduler#withPriority(Priority)} for the lanes sharing this budget.
+     *
+     * @param budgetPerPulse the time each pulse may spend running actions
+     */
+    public static JavaFxPulseScheduler platform(Duration budgetPerPulse) {
+        double millis = budgetPerPulse.toMillis();
+        if (!(millis > 0)) {
+            throw new IllegalArgumentException("The budget per pulse must be a positive duration.");
+        }
+        return new JavaFxPulseScheduler((long) (millis * 1_000_000));
+    }
+
+    /**
+     * Returns a scheduler for deferrable work, like prefetching or warming caches, which runs its actions on the
+     * JavaFX thread only in the time left after a pulse and yields before the next frame is due. Actions which are
+     * still queued wait for the idle time of the next pulse.
+     */
+    public static Scheduler idle() {
+        return IDLE;
+    }
+
+    /**
+     * Returns a new scheduler which runs only the latest action scheduled under each key, once per JavaFX pulse.
+     * Use one instance per set of keys, e.g. per grid.
+     */
+    public static CoalescingScheduler coalescing() {
+        return new CoalescingScheduler(PULSE);
+    }
+
+    /**
+     * Returns a new scheduler whose workers queue their actions in a preallocated ring buffer of 128 slots instead of
+     * allocating a queue node for every action. See {@link #allocationFree(int)}.
+     */
+    public static JavaFxScheduler allocationFree() {
+        return allocationFree(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a new scheduler whose workers queue their actions in a preallocated ring buffer, so scheduling an
+     * action without delay allocates nothing once the worker was created. This suits high frequency
+     * {@code observeOn} pipelines, which keep at most a single action queued per worker.
+     * <p>
+     * In exchange, actions scheduled without delay can't be cancelled one by one: they return
+     * {@link Disposable#disposed()} and are only dropped by disposing the whole worker. A thread scheduling into a full
+     * buffer waits until the JavaFX thread made room, the JavaFX thread itself runs the queued actions first.
+     *
+     * @param bufferSize the number of actions a worker can queue, rounded up to a power of two
+     */
+    public static JavaFxScheduler allocationFree(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive.");
+        }
+        return new JavaFxScheduler(Math.max(2, roundToPowerOfTwo(bufferSize)));
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : Math.min(highest << 1, 1 << 30);
+    }
+
+    static void assertThatTheDelayIsValidForTheJavaFxTimer(long delay) {
         if (delay < 0 || delay > Integer.MAX_VALUE) {
             throw new IllegalArgumentException(String.format("The JavaFx timer only accepts non-negative delays up to %d milliseconds.", Integer.MAX_VALUE));
         }
@@ -47,7 +160,26 @@ public final class JavaFxScheduler extends Scheduler {
 
     @Override
     public Worker createWorker() {
-        return new JavaFxWorker();
+        Scheduler test = TestJavaFxScheduler.installed();
+        if (test != null) {
+            return test.createWorker();
+        }
+        return bufferSize == 0 ? new JavaFxWorker() : new RingBufferWorker(bufferSize);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        Scheduler test = TestJavaFxScheduler.installed();
+        return test != null ? test.now(unit) : super.now(unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodicallyDirect(Runnable run, long initialDelay, long period, TimeUnit unit) {
+        Scheduler test = TestJavaFxScheduler.installed();
+        if (test != null) {
+            return test.schedulePeriodicallyDirect(run, initialDelay, period, unit);
+        }
+        return FxTimerWheel.INSTANCE.schedulePeriodically(RxJavaPlugins.onSchedule(run), initialDelay, period, unit, null);
     }
 
     /**
@@ -64,6 +196,7 @@ public final class JavaFxScheduler extends Scheduler {
 
         private static class QueuedRunnable extends AtomicReference<QueuedRunnable> implements Disposable, Runnable {
             private volatile Runnable action;
+            private          long     enqueued; /// written before the node is linked into the queue
 
             private QueuedRunnable(Runnable action) {
                 this.action = action;
@@ -83,7 +216,7 @@ public final class JavaFxScheduler extends Scheduler {
             public void run() {
                 Runnable action = this.action;
                 if (action != null) {
-                    action.run();
+                    FxThreadMonitor.run(action, enqueued);
                 }
                 this.action = null;
             }
@@ -114,15 +247,23 @@ public final class JavaFxScheduler extends Scheduler {
                 return schedule(queuedRunnable);
             }
 
-            final Timeline timer = new Timeline(new KeyFrame(Duration.millis(delay), event -> schedule(queuedRunnable)));
-            timer.play();
+            final Disposable timeout = FxTimerWheel.INSTANCE.schedule(() -> schedule(queuedRunnable), delay, TimeUnit.MILLISECONDS);
 
             return Disposable.fromRunnable(() -> {
                 queuedRunnable.dispose();
-                timer.stop();
+                timeout.dispose();
             });
         }
 
+        @Override
+        public Disposable schedulePeriodically(Runnable action, long initialDelay, long period, TimeUnit unit) {
+            if (isDisposed()) {
+                return Disposable.disposed();
+            }
+            // runs straight from the timer wheel on the JavaFX thread, without a queue entry per tick
+            return FxTimerWheel.INSTANCE.schedulePeriodically(RxJavaPlugins.onSchedule(action), initialDelay, period, unit, this);
+        }
+
         @Override
         public Disposable schedule(final Runnable action) {
             if (isDisposed()) {
@@ -130,6 +271,7 @@ public final class JavaFxScheduler extends Scheduler {
             }
 
             final QueuedRunnable queuedRunnable = action instanceof QueuedRunnable ? (QueuedRunnable) action : new QueuedRunnable(action);
+            queuedRunnable.enqueued = FxThreadMonitor.enqueued();
 
             QueuedRunnable tailPivot;
             do {
@@ -159,4 +301,178 @@ public final class JavaFxScheduler extends Scheduler {
             }
         }
     }
+
+    /**
+     * A Worker implementation which queues the actions in a bounded array based ring buffer for execution on the
+     * Java FX Application thread, in the manner of Dmitry Vyukov's bounded queue. Each slot carries a sequence number
+     * which tells the producers and the consumer whose turn it is, so neither the producers nor the consumer allocate.
+     * {@link #wip} counts the actions which were queued but not yet run, the producer which increments it from zero
+     * schedules a single job with {@link Platform#runLater(Runnable)}. Recursive actions are queued like any other
+     * action, as {@link #wip} can't drop to zero while an action of this worker runs. When the buffer is full, the
+     * JavaFX thread makes room by running the queued actions itself, other producers park with an increasing backoff
+     * until the JavaFX thread has caught up.
+     */
+    private static final class RingBufferWorker extends Worker implements Runnable {
+        private static final long                       MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final    AtomicReferenceArray<Runnable> buffer;
+        private final    AtomicLongArray                sequences;
+        private final    int                            mask;
+        private final    AtomicLong                     producerIndex = new AtomicLong();
+        private          long                           consumerIndex; /// only accessed on the JavaFX thread
+        private          int                            depth; /// actions of this worker running on the JavaFX thread
+        private final    AtomicInteger                  wip           = new AtomicInteger();
+        private volatile boolean                        disposed;
+
+        private RingBufferWorker(int capacity) {
+            buffer = new AtomicReferenceArray<>(capacity);
+            sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            mask = capacity - 1;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            // the queued actions are dropped by the next run
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public Disposable schedule(final Runnable action, long delayTime, TimeUnit unit) {
+            long delay = Math.max(0, unit.toMillis(delayTime));
+            assertThatTheDelayIsValidForTheJavaFxTimer(delay);
+
+            if (delay == 0) { // delay is too small for the java fx timer, schedule it without delay
+                return schedule(action);
+            }
+            if (disposed) {
+                return Disposable.disposed();
+            }
+            return FxTimerWheel.INSTANCE.schedule(() -> schedule(action), delay, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable action, long initialDelay, long period, TimeUnit unit) {
+            if (disposed) {
+                return Disposable.disposed();
+            }
+            return FxTimerWheel.INSTANCE.schedulePeriodically(RxJavaPlugins.onSchedule(action), initialDelay, period, unit, this);
+        }
+
+        @Override
+        public Disposable schedule(final Runnable action) {
+            if (disposed) {
+                return Disposable.disposed();
+            }
+            Runnable task = FxThreadMonitor.instrument(action);
+            long backoff = 0L;
+            while (!offer(task)) {
+                if (Platform.isFxApplicationThread()) {
+                    runToMakeRoom(); // we are the consumer, running what is queued is the only way to make room
+                } else if (backoff == 0L) {
+                    backoff = 1000L;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(backoff); // the JavaFX thread needs a whole pulse at worst, don't burn a core meanwhile
+                    backoff = Math.min(backoff << 1, MAX_BACKOFF_NANOS);
+                }
+                if (disposed) {
+                    return Disposable.disposed();
+                }
+            }
+            if (wip.getAndIncrement() == 0) {
+                if (Platform.isFxApplicationThread()) {
+                    run();
+                } else {
+                    Platform.runLater(this);
+                }
+            }
+            return Disposable.disposed();
+        }
+
+        private boolean offer(Runnable action) {
+            for (;;) {
+                long index = producerIndex.get();
+                int slot = (int) (index & mask);
+                long difference = sequences.get(slot) - index;
+                if (difference == 0) {
+                    if (producerIndex.compareAndSet(index, index + 1)) {
+                        buffer.lazySet(slot, action);
+                        sequences.set(slot, index + 1); // publishes the action to the consumer
+                        return true;
+                    }
+                } else if (difference < 0) {
+                    return false; // the slot of the previous round was not consumed yet
+                }
+            }
+        }
+
+        private Runnable poll() {
+            long index = consumerIndex;
+            int slot = (int) (index & mask);
+            if (sequences.get(slot) != index + 1) {
+                return null;
+            }
+            Runnable action = buffer.get(slot);
+            buffer.lazySet(slot, null);
+            consumerIndex = index + 1;
+            sequences.set(slot, index + mask + 1); // hands the slot over to the producers of the next round
+            return action;
+        }
+
+        @Override
+        public void run() {
+            if (wip.get() == 0) {
+                return; // already run while the JavaFX thread made room in the buffer
+            }
+            for (;;) {
+                Runnable action = poll();
+                if (action == null) {
+                    // wip only counts published actions, but a producer which claimed an earlier slot may publish
+                    // after a later one was published and counted. Don't wait for it on the JavaFX thread, it may
+                    // be descheduled, come back once it had the chance to publish; wip keeps other drains away.
+                    Platform.runLater(this);
+                    return;
+                }
+                execute(action);
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void runToMakeRoom() {
+            // every running action of this worker still holds its count in wip
+            while (wip.get() > depth) {
+                Runnable action = poll();
+                if (action == null) {
+                    return;
+                }
+                execute(action);
+                wip.decrementAndGet();
+            }
+        }
+
+        private void execute(Runnable action) {
+            if (disposed) {
+                return;
+            }
+            depth++;
+            try {
+                action.run();
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                RxJavaPlugins.onError(e);
+            } finally {
+                depth--;
+            }
+        }
+    }
 }
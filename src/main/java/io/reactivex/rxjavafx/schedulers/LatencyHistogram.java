@@ -0,0 +1,126 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds, bucketed logarithmically like an HDR histogram.
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so a recorded value is known to within
+ * 12.5% while the whole range of a long fits into a fixed array. Recording never allocates and may be done from
+ * any thread.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS    = 3;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final AtomicLong      count  = new AtomicLong();
+    private final AtomicLong      total  = new AtomicLong();
+    private final AtomicLong      max    = new AtomicLong();
+
+    /**
+     * Records a duration, negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.getAndIncrement(indexOf(value));
+        count.getAndIncrement();
+        total.getAndAdd(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the longest recorded duration
+     */
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the mean of the recorded durations, 0 if there are none
+     */
+    public long getMean(TimeUnit unit) {
+        long n = count.get();
+        return n == 0 ? 0 : unit.convert(total.get() / n, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the duration which {@code percentile} percent of the recorded durations don't exceed, as the upper
+     * bound of its bucket
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        long n = count.get();
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return unit.convert(Math.min(upperBoundOf(i), max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Clears all recorded durations. Durations recorded concurrently may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram[count=%d, mean=%dus, p50=%dus, p99=%dus, max=%dus]", getCount(),
+                getMean(TimeUnit.MICROSECONDS), getValueAtPercentile(50, TimeUnit.MICROSECONDS),
+                getValueAtPercentile(99, TimeUnit.MICROSECONDS), getMax(TimeUnit.MICROSECONDS));
+    }
+}
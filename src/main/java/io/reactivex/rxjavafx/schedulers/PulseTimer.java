@@ -0,0 +1,90 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs {@link #onPulse(long)} once per JavaFX pulse for as long as {@link #hasPendingWork()} reports work.
+ * The underlying {@link AnimationTimer} is only registered while there is work, so an idle timer does not keep
+ * the pulse running. {@link #wake()} may be called from any thread and posts at most one
+ * {@link Platform#runLater(Runnable)} per idle to active transition.
+ * The {@link AnimationTimer} is created lazily on the JavaFX thread, so instances can be created before the
+ * toolkit is started.
+ * It drives the pulse scheduler and the queued disposals of
+ * {@link io.reactivex.rxjavafx.subscriptions.JavaFxSubscriptions}, neither of which must depend on a replaceable
+ * scheduler.
+ */
+public abstract class PulseTimer {
+    private final AtomicBoolean active = new AtomicBoolean();
+    private AnimationTimer timer; // only accessed on the JavaFX thread
+
+    /**
+     * Called on the JavaFX thread during a pulse.
+     *
+     * @param now the timestamp of the current pulse in nanoseconds
+     */
+    protected abstract void onPulse(long now);
+
+    /**
+     * @return true if the timer should keep running for another pulse, may be called from any thread
+     */
+    protected abstract boolean hasPendingWork();
+
+    /**
+     * Makes sure {@link #onPulse(long)} is called on the next pulse. Must be called after the work was made visible
+     * to {@link #hasPendingWork()}.
+     */
+    public final void wake() {
+        if (!active.get() && active.compareAndSet(false, true)) {
+            if (Platform.isFxApplicationThread()) {
+                start();
+            } else {
+                Platform.runLater(this::start);
+            }
+        }
+    }
+
+    private void start() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    pulse(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    private void pulse(long now) {
+        try {
+            onPulse(now);
+        } finally {
+            if (!hasPendingWork()) {
+                active.set(false);
+                timer.stop();
+                // work may have been added between the check and the reset of the flag, without waking us up
+                if (hasPendingWork() && active.compareAndSet(false, true)) {
+                    timer.start();
+                }
+            }
+        }
+    }
+}
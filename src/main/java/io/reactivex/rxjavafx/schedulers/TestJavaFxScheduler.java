@@ -0,0 +1,103 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.schedulers;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Replaces the JavaFX schedulers with a virtual clock for tests.
+ * While installed, the schedulers returned by {@link JavaFxScheduler} hand all their work to a {@link TestScheduler}:
+ * nothing runs until the test calls {@link #advanceTimeBy(long, TimeUnit)} or {@link #triggerActions()}, and then
+ * the actions which are due run synchronously on the calling thread, in the order of their virtual due time.
+ * The JavaFX toolkit doesn't need to be started. Use it with try-with-resources to uninstall it again:
+ * <pre>{@code
+ * try (TestJavaFxScheduler scheduler = TestJavaFxScheduler.install()) {
+ *     TestObserver<Long> ticks = Observable.interval(1, TimeUnit.SECONDS, JavaFxScheduler.platform()).test();
+ *     scheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+ *     ticks.assertValues(0L, 1L, 2L);
+ * }
+ * }</pre>
+ * Only one instance can be installed at a time, as the JavaFX schedulers are shared by the whole application.
+ */
+public final class TestJavaFxScheduler implements AutoCloseable {
+    private static final AtomicReference<TestJavaFxScheduler> INSTALLED = new AtomicReference<>();
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private TestJavaFxScheduler() {
+    }
+
+    /**
+     * Installs a new virtual clock for the JavaFX schedulers.
+     *
+     * @throws IllegalStateException if another instance is still installed
+     */
+    public static TestJavaFxScheduler install() {
+        TestJavaFxScheduler testScheduler = new TestJavaFxScheduler();
+        if (!INSTALLED.compareAndSet(null, testScheduler)) {
+            throw new IllegalStateException("Another TestJavaFxScheduler is installed, close it first.");
+        }
+        return testScheduler;
+    }
+
+    /**
+     * @return the scheduler the JavaFX schedulers delegate to, or null if none is installed
+     */
+    static Scheduler installed() {
+        TestJavaFxScheduler testScheduler = INSTALLED.get();
+        return testScheduler == null ? null : testScheduler.scheduler;
+    }
+
+    /**
+     * Moves the virtual clock forward by {@code delayTime} and runs the actions which became due.
+     */
+    public void advanceTimeBy(long delayTime, TimeUnit unit) {
+        scheduler.advanceTimeBy(delayTime, unit);
+    }
+
+    /**
+     * Moves the virtual clock to {@code delayTime} and runs the actions which became due.
+     */
+    public void advanceTimeTo(long delayTime, TimeUnit unit) {
+        scheduler.advanceTimeTo(delayTime, unit);
+    }
+
+    /**
+     * Runs the actions which are due at the current virtual time, e.g. actions scheduled without delay.
+     */
+    public void triggerActions() {
+        scheduler.triggerActions();
+    }
+
+    /**
+     * @return the virtual time
+     */
+    public long now(TimeUnit unit) {
+        return scheduler.now(unit);
+    }
+
+    /**
+     * Uninstalls the virtual clock, the JavaFX schedulers run their work on the JavaFX thread again.
+     */
+    @Override
+    public void close() {
+        INSTALLED.compareAndSet(this, null);
+    }
+}
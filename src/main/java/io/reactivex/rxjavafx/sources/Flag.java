@@ -18,5 +18,6 @@ package io.reactivex.rxjavafx.sources;
 public enum Flag {
     ADDED,
     REMOVED,
-    UPDATED;
+    UPDATED,
+    PERMUTATED;
 }
@@ -16,19 +16,31 @@
 package io.reactivex.rxjavafx.sources;
 
 /**
- * Holds an ADDED, REMOVED, or UPDATED flag with the associated value
+ * Holds an ADDED, REMOVED, UPDATED, or PERMUTATED flag with the associated value.
+ * Changes of an ObservableList also carry the indices of the value, so a copy of the list can be kept in sync by
+ * applying the changes one after another in the order they are emitted: a REMOVED value is removed at its
+ * {@link #getSourceIndex()}, an ADDED value is inserted at its {@link #getTargetIndex()}, and an UPDATED or
+ * PERMUTATED value is set at its {@link #getTargetIndex()}. A sort emits a PERMUTATED change for every value which
+ * moved, from the index it had before the sort to the index it has after. An index is -1 where it doesn't apply.
  * @param <T>
  */
 public final class ListChange<T> {
     private final T value;
     private final Flag flag;
+    private final int sourceIndex;
+    private final int targetIndex;
 
-    private ListChange(T value, Flag flag) {
+    private ListChange(T value, Flag flag, int sourceIndex, int targetIndex) {
         this.value = value;
         this.flag = flag;
+        this.sourceIndex = sourceIndex;
+        this.targetIndex = targetIndex;
     }
     public static <T> ListChange<T> of(T value, Flag flag) {
-        return new ListChange<>(value, flag);
+        return new ListChange<>(value, flag, -1, -1);
+    }
+    public static <T> ListChange<T> of(T value, Flag flag, int sourceIndex, int targetIndex) {
+        return new ListChange<>(value, flag, sourceIndex, targetIndex);
     }
     public T getValue() {
         return value;
@@ -36,8 +48,23 @@ public final class ListChange<T> {
     public Flag getFlag() {
         return flag;
     }
+    /**
+     * @return the index the value is removed from, updated at or moved from, or -1
+     */
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+    /**
+     * @return the index the value is added at, updated at or moved to, or -1
+     */
+    public int getTargetIndex() {
+        return targetIndex;
+    }
     @Override
     public String toString() {
-        return flag + " " + value;
+        if (sourceIndex < 0 && targetIndex < 0) {
+            return flag + " " + value;
+        }
+        return flag + " " + value + " [" + sourceIndex + " -> " + targetIndex + "]";
     }
 }
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.sources;
+
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable copy of one {@link ListChangeListener.Change} notification of an ObservableList.
+ * Holds one {@link SubChange} for every step of the change, in the order reported by the list, so a bulk edit like
+ * a {@code setAll} is a single item no matter how many elements it touched.
+ * @param <T>
+ */
+public final class ListChangeBatch<T> {
+    private final List<SubChange<T>> subChanges;
+
+    private ListChangeBatch(List<SubChange<T>> subChanges) {
+        this.subChanges = subChanges;
+    }
+
+    /**
+     * Copies the whole change, must be called before the change was iterated.
+     */
+    static <T> ListChangeBatch<T> of(ListChangeListener.Change<? extends T> c) {
+        List<SubChange<T>> subChanges = new ArrayList<>(1);
+        while (c.next()) {
+            subChanges.add(SubChange.of(c));
+        }
+        return new ListChangeBatch<>(Collections.unmodifiableList(subChanges));
+    }
+
+    public List<SubChange<T>> getSubChanges() {
+        return subChanges;
+    }
+
+    @Override
+    public String toString() {
+        return subChanges.toString();
+    }
+
+    /**
+     * One step of a {@link ListChangeBatch}, see {@link ListChangeListener.Change} for the meaning of the ranges.
+     * @param <T>
+     */
+    public static final class SubChange<T> {
+        private static final int[] NO_PERMUTATION = new int[0];
+
+        private final int     from;
+        private final int     to;
+        private final List<T> added;
+        private final List<T> removed;
+        private final int[]   permutation;
+        private final boolean updated;
+
+        private SubChange(int from, int to, List<T> added, List<T> removed, int[] permutation, boolean updated) {
+            this.from = from;
+            this.to = to;
+            this.added = added;
+            this.removed = removed;
+            this.permutation = permutation;
+            this.updated = updated;
+        }
+
+        private static <T> SubChange<T> of(ListChangeListener.Change<? extends T> c) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if (c.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = c.getPermutation(i);
+                }
+                return new SubChange<>(from, to, Collections.emptyList(), Collections.emptyList(), permutation, false);
+            }
+            List<T> added = c.wasAdded() ? Collections.unmodifiableList(new ArrayList<>(c.getAddedSubList())) : Collections.emptyList();
+            List<T> removed = c.wasRemoved() ? Collections.unmodifiableList(new ArrayList<>(c.getRemoved())) : Collections.emptyList();
+            return new SubChange<>(from, to, added, removed, NO_PERMUTATION, c.wasUpdated());
+        }
+
+        /**
+         * @return the index of the first element this step touched
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the end index, exclusive, of the added, updated or permutated elements
+         */
+        public int getTo() {
+            return to;
+        }
+
+        /**
+         * @return a copy of the elements added at {@link #getFrom()}
+         */
+        public List<T> getAddedSubList() {
+            return added;
+        }
+
+        /**
+         * @return a copy of the elements removed at {@link #getFrom()}
+         */
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * @return the new index of the element which was at {@code oldIndex} before a permutation
+         */
+        public int getPermutation(int oldIndex) {
+            if (oldIndex < from || oldIndex >= to || permutation.length == 0) {
+                throw new IndexOutOfBoundsException("No permutation of index " + oldIndex);
+            }
+            return permutation[oldIndex - from];
+        }
+
+        /**
+         * @return a copy of the new indices of the permutated elements from {@link #getFrom()} on, empty if this step
+         * is no permutation
+         */
+        public int[] getPermutation() {
+            return permutation.clone();
+        }
+
+        public boolean wasAdded() {
+            return !added.isEmpty();
+        }
+
+        public boolean wasRemoved() {
+            return !removed.isEmpty();
+        }
+
+        public boolean wasReplaced() {
+            return wasAdded() && wasRemoved();
+        }
+
+        public boolean wasUpdated() {
+            return updated;
+        }
+
+        public boolean wasPermutated() {
+            return permutation.length != 0;
+        }
+
+        @Override
+        public String toString() {
+            if (wasPermutated()) {
+                return "PERMUTATED [" + from + ", " + to + ") " + Arrays.toString(permutation);
+            }
+            if (updated) {
+                return "UPDATED [" + from + ", " + to + ")";
+            }
+            return "[" + from + ", " + to + ") added " + added + " removed " + removed;
+        }
+    }
+}
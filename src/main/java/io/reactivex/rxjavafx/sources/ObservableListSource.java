@@ -15,6 +15,7 @@
  */
 package io.reactivex.rxjavafx.sources;
 
+import io.reactivex.rxjava3.core.Emitter;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.ObservableOnSubscribe;
 import io.reactivex.rxjavafx.observables.JavaFxObservable;
@@ -25,6 +26,7 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Function;
 
 public final class ObservableListSource {
@@ -100,21 +102,47 @@ public final class ObservableListSource {
     public static <T> Observable<ListChange<T>> fromObservableListChanges(final ObservableList<T> source) {
         return Observable.create((ObservableOnSubscribe<ListChange<T>>) subscriber -> {
 
-            ListChangeListener<T> listener = c -> {
-                while (c.next()) {
-                    if (c.wasAdded()) {
-                        c.getAddedSubList().forEach(v -> subscriber.onNext(ListChange.of(v,Flag.ADDED)));
-                    }
-                    if (c.wasRemoved()) {
-                        c.getRemoved().forEach(v -> subscriber.onNext(ListChange.of(v,Flag.REMOVED)));
-                    }
-                    if (c.wasUpdated()) {
-                        for (int i = c.getFrom(); i < c.getTo(); i++) {
-                            subscriber.onNext(ListChange.of(c.getList().get(i),Flag.UPDATED));
-                        }
+            ListChangeListener<T> listener = c -> emitChanges(c, subscriber);
+            source.addListener(listener);
+
+            subscriber.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> source.removeListener(listener)));
+        });
+    }
+
+    static <T> void emitChanges(ListChangeListener.Change<? extends T> c, Emitter<ListChange<T>> subscriber) {
+        while (c.next()) {
+            final int from = c.getFrom();
+            if (c.wasPermutated()) {
+                for (int i = from; i < c.getTo(); i++) {
+                    int target = c.getPermutation(i);
+                    if (target != i) {
+                        subscriber.onNext(ListChange.of(c.getList().get(target),Flag.PERMUTATED,i,target));
                     }
                 }
-            };
+                continue;
+            }
+            // removals first, every value of a step is removed at the start of its range
+            if (c.wasRemoved()) {
+                c.getRemoved().forEach(v -> subscriber.onNext(ListChange.of(v,Flag.REMOVED,from,-1)));
+            }
+            if (c.wasAdded()) {
+                List<? extends T> added = c.getAddedSubList();
+                for (int i = 0; i < added.size(); i++) {
+                    subscriber.onNext(ListChange.of(added.get(i),Flag.ADDED,-1,from + i));
+                }
+            }
+            if (c.wasUpdated()) {
+                for (int i = from; i < c.getTo(); i++) {
+                    subscriber.onNext(ListChange.of(c.getList().get(i),Flag.UPDATED,i,i));
+                }
+            }
+        }
+    }
+
+    public static <T> Observable<ListChangeBatch<T>> fromObservableListBatchChanges(final ObservableList<T> source) {
+        return Observable.create((ObservableOnSubscribe<ListChangeBatch<T>>) subscriber -> {
+
+            ListChangeListener<T> listener = c -> subscriber.onNext(ListChangeBatch.of(c));
             source.addListener(listener);
 
             subscriber.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> source.removeListener(listener)));
@@ -22,10 +22,16 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
 
 public class ObservableValueSource {
-
+    // the shared streams per ObservableValue, held weakly so neither the ObservableValue nor the stream leak
+    private static final Map<ObservableValue<?>, WeakReference<Observable<?>>> SHARED_VALUES  = new WeakHashMap<>();
+    private static final Map<ObservableValue<?>, WeakReference<Observable<?>>> SHARED_CHANGES = new WeakHashMap<>();
 
     public static <T> Observable<T> fromObservableValue(final ObservableValue<T> fxObservable) {
         return Observable.create((ObservableEmitter<T> emitter) -> {
@@ -97,4 +103,55 @@ public class ObservableValueSource {
             emitter.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> fxObservable.removeListener(listener)));
         });
     }
+
+    /**
+     * Like {@link #fromObservableValue(ObservableValue)}, but all subscribers share a single listener on the
+     * ObservableValue, which is added with the first subscriber and removed with the last one.
+     */
+    public static <T> Observable<T> sharedFromObservableValue(final ObservableValue<T> fxObservable) {
+        final Observable<T> shared = shared(SHARED_VALUES, fxObservable, () -> Observable.create((ObservableEmitter<T> emitter) -> {
+            final ChangeListener<T> listener = (observableValue, prev, current) -> emitter.onNext(current);
+            addListener(fxObservable, listener, emitter);
+        }).share());
+
+        return Observable.defer(() -> {
+            T value = fxObservable.getValue();
+            return value != null ? shared.startWithItem(value) : shared;
+        });
+    }
+
+    /**
+     * Like {@link #fromObservableValueChanges(ObservableValue)}, but all subscribers share a single listener on the
+     * ObservableValue, which is added with the first subscriber and removed with the last one.
+     */
+    public static <T> Observable<Change<T>> sharedFromObservableValueChanges(final ObservableValue<T> fxObservable) {
+        return shared(SHARED_CHANGES, fxObservable, () -> Observable.create((ObservableEmitter<Change<T>> emitter) -> {
+            final ChangeListener<T> listener = (observableValue, prev, current) -> emitter.onNext(new Change<>(prev, current));
+            addListener(fxObservable, listener, emitter);
+        }).share());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Observable<R> shared(Map<ObservableValue<?>, WeakReference<Observable<?>>> cache,
+                                               ObservableValue<T> fxObservable, Supplier<Observable<R>> factory) {
+        synchronized (cache) {
+            WeakReference<Observable<?>> ref = cache.get(fxObservable);
+            Observable<R> shared = ref != null ? (Observable<R>) ref.get() : null;
+            if (shared == null) {
+                shared = factory.get();
+                cache.put(fxObservable, new WeakReference<>(shared));
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * Registers the listener for the whole subscription, so subscribers which never keep the Disposable get every
+     * value, like with the non shared sources. Through the listener the ObservableValue keeps the shared stream
+     * reachable while anybody is subscribed, only the cache holds it weakly.
+     */
+    private static <T> void addListener(ObservableValue<T> fxObservable, ChangeListener<T> listener, ObservableEmitter<?> emitter) {
+        fxObservable.addListener(listener);
+        emitter.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> fxObservable.removeListener(listener)));
+    }
 }
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.sources;
+
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.ObservableEmitter;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import io.reactivex.rxjavafx.subscriptions.JavaFxSubscriptions;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Sources of the numeric ObservableValues which work on the primitive values.
+ * They listen for invalidations instead of changes, so no {@link javafx.beans.value.ChangeListener} boxes the old
+ * and new value, and read the value with the primitive getter. The value is compared to the last emitted one before
+ * it is boxed, so values which didn't change by at least the minimum delta are dropped without any allocation.
+ * The sampled variants don't even read the value on invalidation: a lazily evaluated binding is validated once per
+ * JavaFX pulse at most.
+ */
+public final class PrimitiveValueSource {
+    private PrimitiveValueSource() {}
+
+    public static Observable<Double> fromObservableDoubleValue(final ObservableDoubleValue fxObservable, final double minDelta, final boolean onPulse) {
+        if (!(minDelta >= 0)) {
+            throw new IllegalArgumentException("The minimum delta must not be negative.");
+        }
+        return Observable.create((ObservableEmitter<Double> emitter) -> {
+            final DoubleListener listener = new DoubleListener(fxObservable, minDelta, onPulse, emitter);
+            fxObservable.addListener(listener);
+            emitter.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> fxObservable.removeListener(listener)));
+        });
+    }
+
+    public static Observable<Integer> fromObservableIntegerValue(final ObservableIntegerValue fxObservable, final int minDelta, final boolean onPulse) {
+        return fromLongSupplier(fxObservable, fxObservable::get, minDelta, onPulse, value -> (int) value);
+    }
+
+    public static Observable<Long> fromObservableLongValue(final ObservableLongValue fxObservable, final long minDelta, final boolean onPulse) {
+        return fromLongSupplier(fxObservable, fxObservable::get, minDelta, onPulse, Long::valueOf);
+    }
+
+    private static <T> Observable<T> fromLongSupplier(final javafx.beans.Observable fxObservable, final LongSupplier getter, final long minDelta,
+                                                      final boolean onPulse, final LongFunction<T> box) {
+        if (minDelta < 0) {
+            throw new IllegalArgumentException("The minimum delta must not be negative.");
+        }
+        return Observable.create((ObservableEmitter<T> emitter) -> {
+            final LongListener<T> listener = new LongListener<>(getter, minDelta, onPulse, box, emitter);
+            fxObservable.addListener(listener);
+            emitter.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> fxObservable.removeListener(listener)));
+        });
+    }
+
+    /**
+     * Emits the current value and then every value which differs by at least the minimum delta from the last
+     * emitted one. Only accessed on the JavaFX thread after the subscription.
+     */
+    private static final class DoubleListener implements InvalidationListener, Runnable {
+        private final ObservableDoubleValue     fxObservable;
+        private final double                    minDelta;
+        private final boolean                   onPulse;
+        private final ObservableEmitter<Double> emitter;
+        private       double                    last;
+        private       boolean                   scheduled;
+
+        private DoubleListener(ObservableDoubleValue fxObservable, double minDelta, boolean onPulse, ObservableEmitter<Double> emitter) {
+            this.fxObservable = fxObservable;
+            this.minDelta = minDelta;
+            this.onPulse = onPulse;
+            this.emitter = emitter;
+            this.last = fxObservable.get();
+            emitter.onNext(last);
+        }
+
+        @Override
+        public void invalidated(javafx.beans.Observable observable) {
+            if (!onPulse) {
+                run();
+            } else if (!scheduled) {
+                scheduled = true;
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            scheduled = false;
+            double value = fxObservable.get(); // validates the observable, so it reports the next invalidation
+            if (Double.compare(value, last) != 0 && !(Math.abs(value - last) < minDelta) && !emitter.isDisposed()) {
+                last = value;
+                emitter.onNext(value);
+            }
+        }
+    }
+
+    /**
+     * The integral counterpart of {@link DoubleListener}, for int and long values.
+     */
+    private static final class LongListener<T> implements InvalidationListener, Runnable {
+        private final LongSupplier            getter;
+        private final long                    minDelta;
+        private final boolean                 onPulse;
+        private final LongFunction<T>         box;
+        private final ObservableEmitter<T>    emitter;
+        private       long                    last;
+        private       boolean                 scheduled;
+
+        private LongListener(LongSupplier getter, long minDelta, boolean onPulse, LongFunction<T> box, ObservableEmitter<T> emitter) {
+            this.getter = getter;
+            this.minDelta = minDelta;
+            this.onPulse = onPulse;
+            this.box = box;
+            this.emitter = emitter;
+            this.last = getter.getAsLong();
+            emitter.onNext(box.apply(last));
+        }
+
+        @Override
+        public void invalidated(javafx.beans.Observable observable) {
+            if (!onPulse) {
+                run();
+            } else if (!scheduled) {
+                scheduled = true;
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            scheduled = false;
+            long value = getter.getAsLong(); // validates the observable, so it reports the next invalidation
+            long delta = value - last;
+            boolean overflow = ((value ^ last) & (value ^ delta)) < 0;
+            if (value != last && (overflow || Math.abs(delta) >= minDelta) && !emitter.isDisposed()) {
+                last = value;
+                emitter.onNext(box.apply(value));
+            }
+        }
+    }
+}
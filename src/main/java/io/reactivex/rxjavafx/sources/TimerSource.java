@@ -16,7 +16,9 @@
 package io.reactivex.rxjavafx.sources;
 
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
@@ -24,6 +26,19 @@ import io.reactivex.rxjavafx.subscriptions.JavaFxSubscriptions;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class TimerSource {
+    // one AnimationTimer for all subscribers, registered while there are any
+    private static final Observable<Long> PULSES = Observable.<Long>create(sub -> {
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sub.onNext(now);
+            }
+        };
+        timer.start();
+
+        sub.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(timer::stop));
+    }).subscribeOn(JavaFxScheduler.platform()).share();
+
     private TimerSource() {
     }
 
@@ -38,4 +53,11 @@ public final class TimerSource {
             sub.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(timeline::stop));
         });
     }
+
+    /**
+     * Emits the timestamp in nanoseconds of every JavaFX pulse, on the JavaFX thread while the pulse runs.
+     */
+    public static Observable<Long> pulses() {
+        return PULSES;
+    }
 }
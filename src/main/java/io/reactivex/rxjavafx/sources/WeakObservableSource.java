@@ -0,0 +1,182 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.sources;
+
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.ObservableEmitter;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import io.reactivex.rxjavafx.subscriptions.JavaFxSubscriptions;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Sources which only hold their JavaFX source weakly, so a subscription which is never disposed doesn't keep a
+ * closed dialog and its whole scene graph on the heap.
+ * The listener is registered strongly on the source, which keeps the subscription alive as long as the source, but
+ * neither the Observable nor the subscription reference the source. Once the source was garbage collected the
+ * stream completes on the JavaFX thread, provided its Disposable is still reachable; a subscription nobody keeps
+ * is simply collected together with its source.
+ */
+public final class WeakObservableSource {
+    private WeakObservableSource() {}
+
+    private static final class CleanerHolder {
+        static final Cleaner CLEANER = Cleaner.create();
+    }
+
+    public static <T> Observable<T> fromObservableValue(final ObservableValue<T> fxObservable) {
+        return weakly(fxObservable, (source, emitter) -> {
+                    T value = source.getValue();
+                    if (value != null) {
+                        emitter.onNext(value);
+                    }
+                },
+                (ObservableEmitter<T> emitter) -> (ChangeListener<T>) (observableValue, prev, current) -> emitter.onNext(current),
+                ObservableValue::addListener, ObservableValue::removeListener);
+    }
+
+    public static <T> Observable<Change<T>> fromObservableValueChanges(final ObservableValue<T> fxObservable) {
+        return weakly(fxObservable, null,
+                (ObservableEmitter<Change<T>> emitter) -> (ChangeListener<T>) (observableValue, prev, current) -> emitter.onNext(new Change<>(prev, current)),
+                ObservableValue::addListener, ObservableValue::removeListener);
+    }
+
+    public static Observable<javafx.beans.Observable> fromInvalidations(final javafx.beans.Observable fxObservable) {
+        return weakly(fxObservable, null,
+                (ObservableEmitter<javafx.beans.Observable> emitter) -> (InvalidationListener) emitter::onNext,
+                javafx.beans.Observable::addListener, javafx.beans.Observable::removeListener);
+    }
+
+    public static <T> Observable<ObservableList<T>> fromObservableList(final ObservableList<T> source) {
+        return weakly(source, (list, emitter) -> emitter.onNext(list),
+                (ObservableEmitter<ObservableList<T>> emitter) -> (ListChangeListener<T>) c -> emitter.onNext(listOf(c)),
+                ObservableList::addListener, ObservableList::removeListener);
+    }
+
+    public static <T> Observable<ListChange<T>> fromObservableListChanges(final ObservableList<T> source) {
+        // shares the index aware emission with the strong source
+        return weakly(source, null,
+                (ObservableEmitter<ListChange<T>> emitter) -> (ListChangeListener<T>) c -> ObservableListSource.emitChanges(c, emitter),
+                ObservableList::addListener, ObservableList::removeListener);
+    }
+
+    public static <T extends Event> Observable<T> fromNodeEvents(final Node node, final EventType<T> eventType) {
+        return weakly(node, null,
+                (ObservableEmitter<T> emitter) -> (EventHandler<T>) emitter::onNext,
+                (source, handler) -> source.addEventHandler(eventType, handler),
+                (source, handler) -> source.removeEventHandler(eventType, handler))
+                .subscribeOn(JavaFxScheduler.platform());
+    }
+
+    public static <T extends Event> Observable<T> fromSceneEvents(final Scene scene, final EventType<T> eventType) {
+        return weakly(scene, null,
+                (ObservableEmitter<T> emitter) -> (EventHandler<T>) emitter::onNext,
+                (source, handler) -> source.addEventHandler(eventType, handler),
+                (source, handler) -> source.removeEventHandler(eventType, handler))
+                .subscribeOn(JavaFxScheduler.platform());
+    }
+
+    public static <T extends Event> Observable<T> fromWindowEvents(final Window window, final EventType<T> eventType) {
+        return weakly(window, null,
+                (ObservableEmitter<T> emitter) -> (EventHandler<T>) emitter::onNext,
+                (source, handler) -> source.addEventHandler(eventType, handler),
+                (source, handler) -> source.removeEventHandler(eventType, handler))
+                .subscribeOn(JavaFxScheduler.platform());
+    }
+
+    /**
+     * @param start    emits the initial items while the source is strongly reachable, may be null
+     * @param listener creates the listener which emits to the subscriber, it is registered strongly on the source
+     */
+    private static <S, T, L> Observable<T> weakly(S source, BiConsumer<S, ObservableEmitter<T>> start,
+                                                  Function<ObservableEmitter<T>, L> listener,
+                                                  BiConsumer<S, L> add, BiConsumer<S, L> remove) {
+        final WeakReference<S> reference = new WeakReference<>(source);
+        return Observable.create((ObservableEmitter<T> emitter) -> {
+            final S strong = reference.get();
+            if (strong == null) {
+                emitter.onComplete();
+                return;
+            }
+            if (start != null) {
+                start.accept(strong, emitter);
+            }
+
+            // the source keeps the listener and so the subscription alive, the subscription never references the source
+            final L fxListener = listener.apply(emitter);
+            add.accept(strong, fxListener);
+
+            final Completion completion = new Completion(emitter);
+            final Cleaner.Cleanable cleanable = CleanerHolder.CLEANER.register(strong, completion);
+
+            emitter.setDisposable(JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> {
+                S current = reference.get();
+                if (current != null) {
+                    remove.accept(current, fxListener);
+                }
+                // only unregisters, a disposed stream isn't completed
+                completion.disarm();
+                cleanable.clean();
+            }));
+        });
+    }
+
+    @SuppressWarnings("unchecked") // the change is fired by the ObservableList<T> the listener was added to
+    private static <T> ObservableList<T> listOf(ListChangeListener.Change<? extends T> c) {
+        return (ObservableList<T>) c.getList();
+    }
+
+    /**
+     * Completes the stream once the source was collected. The cleaner keeps this action strongly reachable, so it
+     * only holds the emitter weakly: a subscriber which references the source must not keep the source reachable
+     * through the cleaner. The emitter outlives the source as long as the Disposable of the subscription is kept.
+     */
+    private static final class Completion implements Runnable {
+        private volatile WeakReference<ObservableEmitter<?>> emitter;
+
+        private Completion(ObservableEmitter<?> emitter) {
+            this.emitter = new WeakReference<>(emitter);
+        }
+
+        private void disarm() {
+            emitter = null;
+        }
+
+        @Override
+        public void run() {
+            WeakReference<ObservableEmitter<?>> reference = emitter;
+            ObservableEmitter<?> e = reference != null ? reference.get() : null;
+            if (e != null) {
+                Platform.runLater(e::onComplete);
+            }
+        }
+    }
+}
@@ -16,20 +16,45 @@
 package io.reactivex.rxjavafx.subscriptions;
 
 
-import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.schedulers.PulseTimer;
 import javafx.application.Platform;
-import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public final class JavaFxSubscriptions {
 
+    // disposals made off the JavaFX thread, run together once per pulse
+    private static final ConcurrentLinkedQueue<Runnable> DISPOSALS = new ConcurrentLinkedQueue<>();
+    private static final PulseTimer                      TIMER     = new PulseTimer() {
+        @Override
+        protected void onPulse(long now) {
+            drain();
+        }
+
+        @Override
+        protected boolean hasPendingWork() {
+            return !DISPOSALS.isEmpty();
+        }
+    };
+    private static final AtomicLong                      PENDING   = new AtomicLong();
+    private static final AtomicLong                      QUEUED    = new AtomicLong();
+    private static final AtomicLong                      DRAINS    = new AtomicLong();
+
     private JavaFxSubscriptions() {
         // no instance
     }
 
     /**
      * Create a Disposable that always runs <code>unsubscribe</code> in the event dispatch thread.
+     * When disposed off the event dispatch thread <code>unsubscribe</code> is queued, and all the queued actions are
+     * run together once per JavaFX pulse, so tearing down many subscriptions from a background thread doesn't flood
+     * the JavaFX event queue. The drain is driven by its own pulse timer and never by a replaceable scheduler, so a
+     * drain which is never run can't block all later disposals.
      *
      * @param unsubscribe the runnable to be performed in the ui thread at un-subscription
      * @return an Disposable that always runs <code>unsubscribe</code> in the event dispatch thread.
@@ -39,12 +64,54 @@ public final class JavaFxSubscriptions {
             if (Platform.isFxApplicationThread()) {
                 unsubscribe.run();
             } else {
-                final Scheduler.Worker inner = JavaFxScheduler.platform().createWorker();
-                inner.schedule(() -> {
-                    unsubscribe.run();
-                    inner.dispose();
-                });
+                enqueue(unsubscribe);
             }
         });
     }
+
+    /**
+     * @return the number of disposals waiting for the JavaFX thread
+     */
+    public static long getPendingDisposalCount() {
+        return PENDING.get();
+    }
+
+    /**
+     * @return the number of disposals which were ever queued because they were made off the event dispatch thread
+     */
+    public static long getQueuedDisposalCount() {
+        return QUEUED.get();
+    }
+
+    /**
+     * @return the number of JavaFX pulses which ran the queued disposals
+     */
+    public static long getDisposalDrainCount() {
+        return DRAINS.get();
+    }
+
+    private static void enqueue(Runnable unsubscribe) {
+        PENDING.getAndIncrement();
+        QUEUED.getAndIncrement();
+        DISPOSALS.offer(unsubscribe);
+        TIMER.wake();
+    }
+
+    private static void drain() {
+        DRAINS.getAndIncrement();
+        // only what was queued before this pulse, later disposals wait for the next one
+        for (long n = PENDING.get(); n > 0; n--) {
+            Runnable unsubscribe = DISPOSALS.poll();
+            if (unsubscribe == null) {
+                break;
+            }
+            PENDING.getAndDecrement();
+            try {
+                unsubscribe.run();
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import java.util.AbstractList;
+
+/**
+ * A buffer for {@link io.reactivex.rxjava3.core.Observable#buffer} which only keeps the first item added to it, so
+ * throttling a fast source doesn't collect the items it drops.
+ */
+final class FirstItemList<T> extends AbstractList<T> {
+    private T       first;
+    private boolean present;
+
+    @Override
+    public boolean add(T t) {
+        if (!present) {
+            first = t;
+            present = true;
+        }
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index != 0 || !present) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return first;
+    }
+
+    @Override
+    public int size() {
+        return present ? 1 : 0;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.core.FlowableOperator;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.subscribers.SerializedSubscriber;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.function.Function;
+
+/**
+ * The Flowable counterpart of {@link FxBatchingOperator}, the demand of the downstream is forwarded unchanged.
+ */
+final class FlowableFxBatchingOperator<T> implements FlowableOperator<T, T> {
+    private final Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher;
+
+    FlowableFxBatchingOperator(Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher) {
+        this.batcher = batcher;
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super T> child) {
+        return new BatchingSubscriber<>(child, batcher);
+    }
+
+    private static final class BatchingSubscriber<T> implements FlowableSubscriber<T> {
+        private final Subscriber<T> child;
+        private final FxBatcher<T>  batcher;
+        private       Subscription  upstream; // set before the first item reaches the batcher
+
+        BatchingSubscriber(Subscriber<? super T> child, Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher) {
+            this.child = new SerializedSubscriber<>(child);
+            this.batcher = batcher.apply(this::fail);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            child.onSubscribe(s);
+        }
+
+        @Override
+        public void onNext(T t) {
+            batcher.offer(t);
+            child.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            child.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            child.onComplete();
+        }
+
+        private void fail(Throwable e) {
+            upstream.cancel();
+            child.onError(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.core.FlowableOperator;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The Flowable counterpart of {@link ObserveLatestOnFxOperator}. The upstream is requested unbounded, the latest
+ * item waits in the slot until the downstream requests it and is replaced by newer items meanwhile.
+ */
+final class FlowableObserveLatestOnFxOperator<T> implements FlowableOperator<T, T> {
+    private final Consumer<? super T> onDropped;
+
+    FlowableObserveLatestOnFxOperator(Consumer<? super T> onDropped) {
+        this.onDropped = onDropped;
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super T> child) {
+        return new LatestSubscriber<>(child, onDropped);
+    }
+
+    private static final class LatestSubscriber<T> implements Subscriber<T>, Subscription, Runnable {
+        private final    Subscriber<? super T> child;
+        private final    Consumer<? super T>   onDropped;
+        private final    AtomicReference<T>    latest    = new AtomicReference<>();
+        private final    AtomicInteger         wip       = new AtomicInteger();
+        private final    AtomicLong            requested = new AtomicLong();
+        private          Subscription          upstream;
+        private volatile boolean               done;
+        private          Throwable             error; /// written before done
+        private volatile boolean               cancelled;
+
+        LatestSubscriber(Subscriber<? super T> child, Consumer<? super T> onDropped) {
+            this.child = child;
+            this.onDropped = onDropped;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            child.onSubscribe(this);
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            T stale = latest.getAndSet(t);
+            if (stale != null) {
+                try {
+                    onDropped.accept(stale);
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    upstream.cancel();
+                    onError(e);
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            error = e;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                RxJavaPlugins.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+                return;
+            }
+            for (;;) {
+                long r = requested.get();
+                long u = r + n;
+                if (requested.compareAndSet(r, u < 0L ? Long.MAX_VALUE : u)) {
+                    break;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            final int missed = wip.get();
+            if (cancelled) {
+                latest.lazySet(null);
+                return;
+            }
+            boolean d = done;
+            long r = requested.get();
+            if (r != 0L) {
+                T t = latest.getAndSet(null);
+                if (t != null) {
+                    child.onNext(t);
+                    if (r != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                }
+            }
+            if (d && latest.get() == null) {
+                cancelled = true;
+                Throwable e = error;
+                if (e != null) {
+                    child.onError(e);
+                } else {
+                    child.onComplete();
+                }
+                return;
+            }
+            // anything which arrived meanwhile is emitted on the next pulse
+            if (wip.addAndGet(-missed) != 0) {
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+    }
+}
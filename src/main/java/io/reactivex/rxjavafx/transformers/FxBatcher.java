@@ -0,0 +1,98 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the items of one subscription on any thread and hands them to the JavaFX thread with a single action per
+ * pulse, either one by one or as a chunk. Only the items queued when the action starts are handed over, the later
+ * ones wait for the next pulse. When the consumer fails, the remaining items are dropped and the error is handed to
+ * {@code onError} on the JavaFX thread.
+ */
+final class FxBatcher<T> {
+    private final ConcurrentLinkedQueue<T>  queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger             wip   = new AtomicInteger(); // the number of queued items
+    private final Consumer<? super T>       onNext;
+    private final Consumer<? super List<T>> onChunk;
+    private final FailureHandler            onError;
+    private volatile boolean                failed;
+
+    private FxBatcher(Consumer<? super T> onNext, Consumer<? super List<T>> onChunk, FailureHandler onError) {
+        this.onNext = onNext;
+        this.onChunk = onChunk;
+        this.onError = onError;
+    }
+
+    static <T> FxBatcher<T> each(Consumer<? super T> onNext, FailureHandler onError) {
+        return new FxBatcher<>(onNext, null, onError);
+    }
+
+    static <T> FxBatcher<T> chunked(Consumer<? super List<T>> onChunk, FailureHandler onError) {
+        return new FxBatcher<>(null, onChunk, onError);
+    }
+
+    void offer(T t) {
+        if (failed) {
+            return;
+        }
+        queue.offer(t);
+        if (wip.getAndIncrement() == 0) {
+            JavaFxScheduler.pulse().scheduleDirect(this::drain);
+        }
+    }
+
+    private void drain() {
+        final int missed = wip.get();
+        try {
+            if (onChunk != null) {
+                List<T> chunk = new ArrayList<>(missed);
+                for (int i = 0; i < missed; i++) {
+                    chunk.add(queue.poll());
+                }
+                onChunk.accept(chunk);
+            } else {
+                for (int i = 0; i < missed; i++) {
+                    onNext.accept(queue.poll());
+                }
+            }
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            // wip stays above zero, so no further drain is scheduled
+            failed = true;
+            queue.clear();
+            onError.onFailure(e);
+            return;
+        }
+        if (wip.addAndGet(-missed) != 0) {
+            JavaFxScheduler.pulse().scheduleDirect(this::drain);
+        }
+    }
+
+    /**
+     * Receives the error of the consumer on the JavaFX thread.
+     */
+    interface FailureHandler {
+        void onFailure(Throwable e);
+    }
+}
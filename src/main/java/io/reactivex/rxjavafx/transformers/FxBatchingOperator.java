@@ -0,0 +1,79 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.core.ObservableOperator;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.observers.SerializedObserver;
+
+import java.util.function.Function;
+
+/**
+ * Passes the items on unchanged and hands them to an {@link FxBatcher}, which runs the consumer on the JavaFX thread.
+ * When the consumer fails, the upstream is disposed and the error is signalled downstream, serialized with the items
+ * the upstream may still be emitting.
+ */
+final class FxBatchingOperator<T> implements ObservableOperator<T, T> {
+    private final Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher;
+
+    FxBatchingOperator(Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher) {
+        this.batcher = batcher;
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super T> child) {
+        return new BatchingObserver<>(child, batcher);
+    }
+
+    private static final class BatchingObserver<T> implements Observer<T> {
+        private final Observer<T>  child;
+        private final FxBatcher<T> batcher;
+        private       Disposable   upstream; // set before the first item reaches the batcher
+
+        BatchingObserver(Observer<? super T> child, Function<FxBatcher.FailureHandler, FxBatcher<T>> batcher) {
+            this.child = new SerializedObserver<>(child);
+            this.batcher = batcher.apply(this::fail);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            child.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T t) {
+            batcher.offer(t);
+            child.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            child.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            child.onComplete();
+        }
+
+        private void fail(Throwable e) {
+            upstream.dispose();
+            child.onError(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.LongConsumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accepts the running count of one subscription on any thread and publishes only the latest count to the JavaFX
+ * thread, at most once per JavaFX pulse.
+ */
+final class FxCountPublisher implements LongConsumer {
+    private final AtomicLong    latest = new AtomicLong();
+    private final AtomicInteger wip    = new AtomicInteger();
+    private final LongConsumer  action;
+    private       long          published; /// only accessed on the JavaFX thread
+
+    FxCountPublisher(LongConsumer action) {
+        this.action = action;
+    }
+
+    @Override
+    public void accept(long count) {
+        latest.set(count);
+        if (wip.getAndIncrement() == 0) {
+            JavaFxScheduler.pulse().scheduleDirect(this::publish);
+        }
+    }
+
+    private void publish() {
+        // counts arriving from here on schedule the next pulse
+        wip.set(0);
+        long count = latest.get();
+        if (count == published) {
+            return;
+        }
+        published = count;
+        try {
+            action.accept(count);
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            RxJavaPlugins.onError(e);
+        }
+    }
+}
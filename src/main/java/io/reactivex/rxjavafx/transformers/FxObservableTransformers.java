@@ -16,39 +16,48 @@
 
 package io.reactivex.rxjavafx.transformers;
 
+import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.ObservableOperator;
 import io.reactivex.rxjava3.core.ObservableTransformer;
 import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.CompositeException;
 import io.reactivex.rxjava3.exceptions.Exceptions;
 import io.reactivex.rxjava3.functions.Action;
 import io.reactivex.rxjava3.functions.Consumer;
-import io.reactivex.rxjava3.observers.ResourceObserver;
+import io.reactivex.rxjava3.functions.LongConsumer;
+import io.reactivex.rxjava3.internal.observers.BasicFuseableObserver;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.internal.FxTaskHook;
+import io.reactivex.rxjavafx.observables.JavaFxObservable;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
 import javafx.application.Platform;
 
+import java.util.List;
+
 
 public final class FxObservableTransformers {
     private FxObservableTransformers() {}
 
     private static <T> void runOnFx(T t, Consumer<T> consumer)  {
-        Platform.runLater(() -> {
+        Platform.runLater(FxTaskHook.instrument(() -> {
                     try {
                         consumer.accept(t);
                     } catch (Throwable e) {
                         throw Exceptions.propagate(e);
                     }
                 }
-        );
+        ));
     }
     private static <T> void runOnFx(Action action)  {
-        Platform.runLater(() -> {
+        Platform.runLater(FxTaskHook.instrument(() -> {
                     try {
                         action.run();
                     } catch (Throwable e) {
                         throw Exceptions.propagate(e);
                     }
                 }
-        );
+        ));
     }
 
     /**
@@ -60,6 +69,81 @@ public final class FxObservableTransformers {
         return obs -> obs.doOnNext(t -> runOnFx(t, onNext));
     }
 
+    /**
+     * Performs a given action for each item on the FX thread, the items emitted between two JavaFX pulses are handed
+     * over by a single action in a tight loop instead of one runLater per item.
+     * If the action fails, the upstream is cancelled and the error is signalled downstream.
+     * @param onNext
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnNextFxBatched(Consumer<T> onNext) {
+        return obs -> obs.lift(new FxBatchingOperator<T>(onError -> FxBatcher.each(onNext, onError)));
+    }
+
+    /**
+     * Performs a given action on the FX thread once per JavaFX pulse with the items emitted since the previous pulse.
+     * If the action fails, the upstream is cancelled and the error is signalled downstream.
+     * @param onChunk
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnNextFxChunked(Consumer<List<T>> onChunk) {
+        return obs -> obs.lift(new FxBatchingOperator<T>(onError -> FxBatcher.chunked(onChunk, onError)));
+    }
+
+    /**
+     * Emits the items on the FX thread, keeping only the latest item which was not emitted yet and dropping the
+     * older ones. At most one item is emitted per JavaFX pulse, so a fast upstream can't flood the FX thread.
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> observeLatestOnFx() {
+        return observeLatestOnFx(t -> { });
+    }
+
+    /**
+     * Emits the items on the FX thread, keeping only the latest item which was not emitted yet and dropping the
+     * older ones. At most one item is emitted per JavaFX pulse, so a fast upstream can't flood the FX thread.
+     * @param onDropped called on the emitting thread with every item that was replaced before it was emitted, e.g. to
+     *                  count them
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> observeLatestOnFx(Consumer<? super T> onDropped) {
+        return obs -> obs.lift(new ObserveLatestOnFxOperator<>(onDropped));
+    }
+
+    /**
+     * Emits the latest item on each JavaFX pulse, on the FX thread while the pulse runs, if there was a new item
+     * since the previous pulse
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> sampleOnPulse() {
+        return obs -> obs.sample(JavaFxObservable.pulses());
+    }
+
+    /**
+     * Emits the items collected since the previous JavaFX pulse as a list on each pulse, on the FX thread while the
+     * pulse runs. Pulses without items emit nothing, the items which arrived after the last pulse are emitted on the
+     * FX thread after the source completes, followed by the completion.
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,List<T>> bufferOnPulse() {
+        return obs -> obs.buffer(JavaFxObservable.pulses())
+                .filter(items -> !items.isEmpty())
+                .observeOn(JavaFxScheduler.platform(), true); // a no-op during the pulse, moves the final flush
+    }
+
+    /**
+     * Emits the first item which arrived since the previous JavaFX pulse on each pulse, on the FX thread while the
+     * pulse runs, and drops the others. The first item after the last pulse is emitted on the FX thread after the
+     * source completes, followed by the completion.
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> throttleOnPulse() {
+        return obs -> obs.buffer(JavaFxObservable.pulses(), FirstItemList<T>::new)
+                .filter(items -> !items.isEmpty())
+                .map(items -> items.get(0))
+                .observeOn(JavaFxScheduler.platform(), true);
+    }
+
     /**
      * Performs a given action on a Throwable on the FX thread in the event of an onError
      * @param onError
@@ -111,7 +195,7 @@ public final class FxObservableTransformers {
      * @param <T>
      */
     public static <T> ObservableTransformer<T,T> doOnNextCount(Consumer<Integer> onNext) {
-        return obs -> obs.lift(new OperatorEmissionCounter<>(new CountObserver(onNext,null,null)));
+        return counting(new CountObserver(c -> onNext.accept((int) c),null,null));
     }
 
     /**
@@ -120,7 +204,7 @@ public final class FxObservableTransformers {
      * @param <T>
      */
     public static <T> ObservableTransformer<T,T> doOnCompleteCount(Consumer<Integer> onComplete) {
-        return obs -> obs.lift(new OperatorEmissionCounter<>(new CountObserver(null,onComplete,null)));
+        return counting(new CountObserver(null,c -> onComplete.accept((int) c),null));
     }
 
     /**
@@ -129,7 +213,7 @@ public final class FxObservableTransformers {
      * @param <T>
      */
     public static <T> ObservableTransformer<T,T> doOnErrorCount(Consumer<Integer> onError) {
-        return obs -> obs.lift(new OperatorEmissionCounter<>(new CountObserver(null,null,onError)));
+        return counting(new CountObserver(null,null,c -> onError.accept((int) c)));
     }
 
     /**
@@ -160,7 +244,70 @@ public final class FxObservableTransformers {
     }
 
 
-    private static class OperatorEmissionCounter<T> implements ObservableOperator<T,T> {
+    /**
+     * Performs an action on onNext with the provided emission count as a primitive long
+     * @param onNext
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnNextLongCount(LongConsumer onNext) {
+        return counting(new CountObserver(onNext,null,null));
+    }
+
+    /**
+     * Performs an action on onComplete with the provided emission count as a primitive long
+     * @param onComplete
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnCompleteLongCount(LongConsumer onComplete) {
+        return counting(new CountObserver(null,onComplete,null));
+    }
+
+    /**
+     * Performs an action on onError with the provided emission count as a primitive long
+     * @param onError
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnErrorLongCount(LongConsumer onError) {
+        return counting(new CountObserver(null,null,onError));
+    }
+
+    /**
+     * Performs an action on FX thread with the latest emission count at most once per JavaFX pulse, the counts
+     * reached between two pulses are skipped
+     * @param onNext
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnNextLongCountFx(LongConsumer onNext) {
+        return obs -> Observable.defer(() -> obs.compose(doOnNextLongCount(new FxCountPublisher(onNext))));
+    }
+
+    /**
+     * Performs an action on FX thread on onCompleted with the provided emission count as a primitive long
+     * @param onComplete
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnCompleteLongCountFx(LongConsumer onComplete) {
+        return obs -> obs.compose(doOnCompleteLongCount(c -> runOnFx(() -> onComplete.accept(c))));
+    }
+
+    /**
+     * Performs an action on FX thread on onError with the provided emission count as a primitive long
+     * @param onError
+     * @param <T>
+     */
+    public static <T> ObservableTransformer<T,T> doOnErrorLongCountFx(LongConsumer onError) {
+        return obs -> obs.compose(doOnErrorLongCount(c -> runOnFx(() -> onError.accept(c))));
+    }
+
+    /**
+     * Counts the items in a pass-through observer, which forwards the demand of the downstream unchanged and
+     * takes part in the synchronous operator fusion of the upstream.
+     */
+    private static <T> ObservableTransformer<T,T> counting(CountObserver ctObserver) {
+        return obs -> obs.lift(new OperatorEmissionCounter<>(ctObserver));
+    }
+
+    private static final class OperatorEmissionCounter<T> implements ObservableOperator<T,T> {
 
         private final CountObserver ctObserver;
 
@@ -170,68 +317,115 @@ public final class FxObservableTransformers {
 
         @Override
         public Observer<? super T> apply(Observer<? super T> child) {
+            return new CountingObserver<>(child, ctObserver);
+        }
+    }
 
-            return new ResourceObserver<T>() {
-                private int count = 0;
-                private boolean done = false;
+    private static final class CountingObserver<T> extends BasicFuseableObserver<T,T> {
+        private final CountObserver ctObserver;
+        private       long          count; // only accessed by the serialized signals, or the consumer polling them
 
-                @Override
-                public void onComplete() {
-                    if (done)
-                        return;
+        CountingObserver(Observer<? super T> child, CountObserver ctObserver) {
+            super(child);
+            this.ctObserver = ctObserver;
+        }
 
-                    try {
-                        if (ctObserver.doOnCompletedCountAction != null)
-                            ctObserver.doOnCompletedCountAction.accept(count);
-                    } catch (Throwable e) {
-                        Exceptions.throwIfFatal(e);
-                        onError(e);
-                        return;
-                    }
-                    done = true;
-                    child.onComplete();
-                }
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            try {
+                ctObserver.next(++count);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                fail(e);
+                return;
+            }
+            downstream.onNext(t);
+        }
 
-                @Override
-                public void onError(Throwable e) {
-                    if (done)
-                        return;
-                    try {
-                        if (ctObserver.doOnErrorCountAction != null)
-                            ctObserver.doOnErrorCountAction.accept(count);
-                    } catch(Throwable e1) {
-                        Exceptions.throwIfFatal(e1);
-                        child.onError(e1);
-                    }
-                }
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            downstream.onError(ctObserver.error(e, count));
+        }
 
-                @Override
-                public void onNext(T t) {
-                    if (done)
-                        return;
-                    try {
-                        ++count;
-                        if (ctObserver.doOnNextCountAction != null)
-                            ctObserver.doOnNextCountAction.accept(count);
-                    } catch(Throwable e) {
-                        Exceptions.throwIfFatal(e);
-                        onError(e);
-                        return;
-                    }
-                    child.onNext(t);
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            try {
+                ctObserver.complete(count);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                onError(e);
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            // an async upstream terminates before its items are polled and counted, only sync fusion keeps the count
+            if ((mode & SYNC) == 0)
+                return NONE;
+            return transitiveBoundaryFusion(SYNC | (mode & BOUNDARY));
+        }
+
+        @Override
+        public T poll() throws Throwable {
+            try {
+                T t = qd.poll();
+                if (t != null) {
+                    ctObserver.next(++count);
+                } else if (!done) {
+                    done = true;
+                    ctObserver.complete(count);
                 }
-            };
+                return t;
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                done = true;
+                throw ctObserver.error(e, count);
+            }
         }
     }
+
     private static final class CountObserver {
-        private final Consumer<Integer> doOnNextCountAction;
-        private final Consumer<Integer> doOnCompletedCountAction;
-        private final Consumer<Integer> doOnErrorCountAction;
+        private final LongConsumer doOnNextCountAction;
+        private final LongConsumer doOnCompletedCountAction;
+        private final LongConsumer doOnErrorCountAction;
 
-        CountObserver(Consumer<Integer> doOnNextCountAction, Consumer<Integer> doOnCompletedCountAction, Consumer<Integer> doOnErrorCountAction) {
+        CountObserver(LongConsumer doOnNextCountAction, LongConsumer doOnCompletedCountAction, LongConsumer doOnErrorCountAction) {
             this.doOnNextCountAction = doOnNextCountAction;
             this.doOnCompletedCountAction = doOnCompletedCountAction;
             this.doOnErrorCountAction = doOnErrorCountAction;
         }
+
+        void next(long count) throws Throwable {
+            if (doOnNextCountAction != null)
+                doOnNextCountAction.accept(count);
+        }
+
+        void complete(long count) throws Throwable {
+            if (doOnCompletedCountAction != null)
+                doOnCompletedCountAction.accept(count);
+        }
+
+        Throwable error(Throwable e, long count) {
+            try {
+                if (doOnErrorCountAction != null)
+                    doOnErrorCountAction.accept(count);
+            } catch (Throwable e1) {
+                Exceptions.throwIfFatal(e1);
+                return new CompositeException(e, e1);
+            }
+            return e;
+        }
     }
 }
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2017 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reactivex.rxjavafx.transformers;
+
+import io.reactivex.rxjava3.core.ObservableOperator;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves the items to the JavaFX thread through a single slot which only holds the latest item. A drain on the next
+ * JavaFX pulse emits whatever is in the slot, items replaced before the drain ran are handed to {@code onDropped}.
+ * At most one drain is scheduled at a time and each drain emits at most one item, so the JavaFX thread does a bounded
+ * amount of work per pulse however fast the upstream is.
+ */
+final class ObserveLatestOnFxOperator<T> implements ObservableOperator<T, T> {
+    private final Consumer<? super T> onDropped;
+
+    ObserveLatestOnFxOperator(Consumer<? super T> onDropped) {
+        this.onDropped = onDropped;
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super T> child) {
+        return new LatestObserver<>(child, onDropped);
+    }
+
+    private static final class LatestObserver<T> implements Observer<T>, Disposable, Runnable {
+        private final    Observer<? super T>  child;
+        private final    Consumer<? super T>  onDropped;
+        private final    AtomicReference<T>   latest = new AtomicReference<>();
+        private final    AtomicInteger        wip    = new AtomicInteger();
+        private          Disposable           upstream;
+        private volatile boolean              done;
+        private          Throwable            error; /// written before done
+        private volatile boolean              disposed;
+
+        LatestObserver(Observer<? super T> child, Consumer<? super T> onDropped) {
+            this.child = child;
+            this.onDropped = onDropped;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            child.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            T stale = latest.getAndSet(t);
+            if (stale != null) {
+                try {
+                    onDropped.accept(stale);
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    upstream.dispose();
+                    onError(e);
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            error = e;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            upstream.dispose();
+            schedule();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            final int missed = wip.get();
+            if (disposed) {
+                latest.lazySet(null);
+                return;
+            }
+            boolean d = done;
+            T t = latest.getAndSet(null);
+            if (t != null) {
+                child.onNext(t);
+            }
+            if (d) {
+                disposed = true;
+                Throwable e = error;
+                if (e != null) {
+                    child.onError(e);
+                } else {
+                    child.onComplete();
+                }
+                return;
+            }
+            // anything which arrived meanwhile is emitted on the next pulse
+            if (wip.addAndGet(-missed) != 0) {
+                JavaFxScheduler.pulse().scheduleDirect(this);
+            }
+        }
+    }
+}
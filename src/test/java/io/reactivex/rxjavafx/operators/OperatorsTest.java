@@ -1,19 +1,46 @@
 package io.reactivex.rxjavafx.operators;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.fuseable.QueueDisposable;
+import io.reactivex.rxjava3.internal.fuseable.QueueFuseable;
+import io.reactivex.rxjava3.internal.fuseable.QueueSubscription;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.reactivex.rxjavafx.observables.JavaFxObservable;
 import io.reactivex.rxjavafx.transformers.FxFlowableTransformers;
 import io.reactivex.rxjavafx.transformers.FxObservableTransformers;
+import javafx.application.Platform;
 import org.junit.Assert;
+import org.junit.BeforeClass;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class OperatorsTest {
 
+    @BeforeClass
+    public static void initJFX() {
+        try {
+            javafx.application.Platform.startup(() ->{});
+        } catch (IllegalStateException e) {
+            // already started
+        }
+    }
+
     @Test
     public void testDoOnNextCountObservable() {
 
@@ -89,4 +116,302 @@ public final class OperatorsTest {
 
         Assert.assertTrue(onErrorCount.get() == 3);
     }
+
+    @Test
+    public void testDoOnNextFxBatchedObservable() throws Exception {
+        final int count = 100_000;
+        final List<Integer> items = new ArrayList<>();
+        final AtomicInteger offThread = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(count);
+
+        Observable.range(0, count)
+                .subscribeOn(Schedulers.computation())
+                .compose(FxObservableTransformers.doOnNextFxBatched(i -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offThread.incrementAndGet();
+                    }
+                    items.add(i);
+                    done.countDown();
+                }))
+                .subscribe();
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, offThread.get());
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(i, (int) items.get(i));
+        }
+    }
+
+    @Test
+    public void testDoOnNextFxChunkedFlowable() throws Exception {
+        final int count = 100_000;
+        final List<Integer> items = new ArrayList<>();
+        final AtomicInteger chunks = new AtomicInteger();
+        final AtomicInteger offThread = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        Flowable.range(0, count)
+                .subscribeOn(Schedulers.computation())
+                .compose(FxFlowableTransformers.doOnNextFxChunked(chunk -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offThread.incrementAndGet();
+                    }
+                    chunks.incrementAndGet();
+                    items.addAll(chunk);
+                    if (items.size() == count) {
+                        done.countDown();
+                    }
+                }))
+                .subscribe();
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, offThread.get());
+        Assert.assertTrue(chunks.get() < count / 100);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(i, (int) items.get(i));
+        }
+    }
+
+    @Test
+    public void testDoOnNextFxBatchedErrorsReachDownstream() throws Exception {
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        TestSubscriber<Integer> chunked = Flowable.<Integer>never()
+                .startWithArray(1, 2, 3)
+                .doOnCancel(() -> cancelled.set(true))
+                .compose(FxFlowableTransformers.doOnNextFxChunked(chunk -> {
+                    throw new IllegalStateException("chunk");
+                }))
+                .test();
+        chunked.await(5, TimeUnit.SECONDS);
+        chunked.assertError(IllegalStateException.class).assertValues(1, 2, 3);
+        Assert.assertTrue(cancelled.get());
+
+        final PublishSubject<Integer> source = PublishSubject.create();
+        TestObserver<Integer> batched = source
+                .compose(FxObservableTransformers.doOnNextFxBatched(i -> {
+                    throw new IllegalStateException("item " + i);
+                }))
+                .test();
+        source.onNext(1);
+        batched.await(5, TimeUnit.SECONDS);
+        batched.assertError(e -> e.getMessage().equals("item 1")).assertValues(1);
+        Assert.assertFalse(source.hasObservers());
+    }
+
+    @Test
+    public void testObserveLatestOnFxObservable() throws Exception {
+        final int count = 100_000;
+        final AtomicInteger dropped = new AtomicInteger();
+        final AtomicInteger offThread = new AtomicInteger();
+
+        TestObserver<Integer> observer = Observable.range(1, count)
+                .subscribeOn(Schedulers.computation())
+                .compose(FxObservableTransformers.observeLatestOnFx(i -> dropped.incrementAndGet()))
+                .doOnNext(i -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offThread.incrementAndGet();
+                    }
+                })
+                .test();
+
+        observer.awaitDone(10, TimeUnit.SECONDS).assertComplete();
+        List<Integer> values = observer.values();
+        Assert.assertEquals(count, values.get(values.size() - 1).intValue());
+        Assert.assertEquals(count, values.size() + dropped.get());
+        Assert.assertTrue(dropped.get() > 0);
+        Assert.assertEquals(0, offThread.get());
+    }
+
+    @Test
+    public void testObserveLatestOnFxFlowableHonoursDemand() throws Exception {
+        TestSubscriber<Integer> subscriber = Flowable.range(1, 5)
+                .compose(FxFlowableTransformers.<Integer>observeLatestOnFx())
+                .test(0L);
+
+        Thread.sleep(100);
+        subscriber.assertEmpty();
+
+        subscriber.request(1);
+        subscriber.awaitDone(5, TimeUnit.SECONDS).assertResult(5);
+    }
+
+    @Test
+    public void testPulseOperators() throws Exception {
+        TestObserver<Long> pulses = JavaFxObservable.pulses().take(10).test();
+        pulses.awaitDone(5, TimeUnit.SECONDS).assertValueCount(10);
+        for (int i = 1; i < 10; i++) {
+            Assert.assertTrue(pulses.values().get(i) > pulses.values().get(i - 1));
+        }
+
+        final AtomicInteger offThread = new AtomicInteger();
+        PublishSubject<Integer> source = PublishSubject.create();
+        TestObserver<Integer> samples = source.compose(FxObservableTransformers.sampleOnPulse())
+                .doOnNext(i -> { if (!Platform.isFxApplicationThread()) offThread.incrementAndGet(); })
+                .test();
+        TestObserver<List<Integer>> buffers = source.compose(FxObservableTransformers.bufferOnPulse())
+                .doOnEach(n -> { if (!Platform.isFxApplicationThread()) offThread.incrementAndGet(); })
+                .test();
+        TestObserver<Integer> throttled = source.compose(FxObservableTransformers.throttleOnPulse())
+                .doOnEach(n -> { if (!Platform.isFxApplicationThread()) offThread.incrementAndGet(); })
+                .test();
+        TestObserver<Long> frames = JavaFxObservable.pulses().test();
+
+        // emit in a few bursts, so each burst spans at most a couple of pulses
+        for (int burst = 0; burst < 5; burst++) {
+            for (int i = 0; i < 1000; i++) {
+                source.onNext(burst * 1000 + i);
+            }
+            Thread.sleep(50);
+        }
+        Thread.sleep(100);
+        frames.dispose();
+        // the item after the last pulse is flushed by the completion, on the FX thread as well
+        source.onNext(5000);
+        source.onComplete();
+        buffers.awaitDone(5, TimeUnit.SECONDS).assertComplete();
+        throttled.awaitDone(5, TimeUnit.SECONDS).assertComplete();
+
+        Assert.assertEquals(0, offThread.get());
+        Assert.assertTrue(samples.values().size() <= frames.values().size() + 1);
+        Assert.assertEquals(4999, (int) samples.values().get(samples.values().size() - 1));
+        List<Integer> all = new ArrayList<>();
+        buffers.values().forEach(all::addAll);
+        Assert.assertEquals(5001, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            Assert.assertEquals(i, (int) all.get(i));
+        }
+        // both subscribe to the pulses on their own, so their pulse boundaries may differ slightly
+        Assert.assertTrue(throttled.values().size() <= buffers.values().size() + 1);
+        for (int i = 1; i < throttled.values().size(); i++) {
+            Assert.assertTrue(throttled.values().get(i) > throttled.values().get(i - 1));
+        }
+        for (int burst = 0; burst <= 5; burst++) {
+            Assert.assertTrue(throttled.values().contains(burst * 1000));
+        }
+        samples.dispose();
+        buffers.dispose();
+        throttled.dispose();
+    }
+
+    @Test
+    public void testLongCounts() throws Exception {
+        final AtomicLong next = new AtomicLong();
+        final AtomicLong complete = new AtomicLong();
+        final AtomicLong error = new AtomicLong();
+
+        Observable.range(0, 1000)
+                .compose(FxObservableTransformers.doOnNextLongCount(next::set))
+                .compose(FxObservableTransformers.doOnCompleteLongCount(complete::set))
+                .subscribe();
+        Flowable.just(5, 10, 0, 20)
+                .map(i -> 5 / i)
+                .compose(FxFlowableTransformers.doOnErrorLongCount(error::set))
+                .subscribe(i -> { }, e -> { });
+
+        Assert.assertEquals(1000, next.get());
+        Assert.assertEquals(1000, complete.get());
+        Assert.assertEquals(2, error.get());
+    }
+
+    @Test
+    public void testDoOnNextLongCountFxPublishesOncePerPulse() throws Exception {
+        final int count = 1_000_000;
+        final AtomicInteger published = new AtomicInteger();
+        final AtomicLong last = new AtomicLong();
+        final AtomicInteger offThread = new AtomicInteger();
+
+        Flowable.range(0, count)
+                .subscribeOn(Schedulers.computation())
+                .compose(FxFlowableTransformers.doOnNextLongCountFx(c -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offThread.incrementAndGet();
+                    }
+                    published.incrementAndGet();
+                    last.set(c);
+                }))
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertComplete();
+
+        for (int i = 0; i < 100 && last.get() != count; i++) {
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(count, last.get());
+        Assert.assertEquals(0, offThread.get());
+        Assert.assertTrue(published.get() < count / 100);
+    }
+
+    @Test
+    public void testCountFlowableForwardsDemand() {
+        final List<Long> requests = new ArrayList<>();
+        final AtomicLong count = new AtomicLong();
+
+        TestSubscriber<Integer> subscriber = Flowable.range(1, 100)
+                .doOnRequest(requests::add)
+                .compose(FxFlowableTransformers.doOnNextLongCount(count::set))
+                .test(0L);
+
+        subscriber.assertEmpty();
+        subscriber.request(5);
+        subscriber.assertValues(1, 2, 3, 4, 5);
+        Assert.assertEquals(5, count.get());
+        Assert.assertEquals(Arrays.asList(5L), requests);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCountersTakePartInSyncFusion() throws Throwable {
+        final AtomicLong next = new AtomicLong();
+        final AtomicLong completed = new AtomicLong(-1);
+
+        QueueSubscription<Integer> fused = (QueueSubscription<Integer>) subscriptionOf(Flowable.range(1, 3)
+                .compose(FxFlowableTransformers.doOnNextLongCount(next::set))
+                .compose(FxFlowableTransformers.doOnCompleteLongCount(completed::set)));
+        Assert.assertEquals(QueueFuseable.SYNC, fused.requestFusion(QueueFuseable.ANY));
+        Assert.assertEquals(Integer.valueOf(1), fused.poll());
+        Assert.assertEquals(1, next.get());
+        Assert.assertEquals(Integer.valueOf(2), fused.poll());
+        Assert.assertEquals(Integer.valueOf(3), fused.poll());
+        Assert.assertEquals(-1, completed.get());
+        Assert.assertNull(fused.poll());
+        Assert.assertEquals(3, completed.get());
+
+        // the count actions must not move to the thread of an async boundary
+        QueueSubscription<Integer> boundary = (QueueSubscription<Integer>) subscriptionOf(Flowable.range(1, 3)
+                .compose(FxFlowableTransformers.doOnNextLongCount(next::set)));
+        Assert.assertEquals(QueueFuseable.NONE, boundary.requestFusion(QueueFuseable.ANY | QueueFuseable.BOUNDARY));
+
+        final List<Integer> modes = new ArrayList<>();
+        final AtomicLong observed = new AtomicLong();
+        Observable.range(1, 3)
+                .compose(FxObservableTransformers.doOnNextLongCount(observed::set))
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        QueueDisposable<Integer> fusedObserver = (QueueDisposable<Integer>) d;
+                        modes.add(fusedObserver.requestFusion(QueueFuseable.ANY));
+                        try {
+                            while (fusedObserver.poll() != null) { }
+                        } catch (Throwable e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                    @Override public void onNext(Integer i) { }
+                    @Override public void onError(Throwable e) { }
+                    @Override public void onComplete() { }
+                });
+        Assert.assertEquals(Arrays.asList(QueueFuseable.SYNC), modes);
+        Assert.assertEquals(3, observed.get());
+    }
+
+    private static Subscription subscriptionOf(Flowable<Integer> flowable) {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        flowable.subscribe(new FlowableSubscriber<Integer>() {
+            @Override public void onSubscribe(Subscription s) { subscriptions.add(s); }
+            @Override public void onNext(Integer i) { }
+            @Override public void onError(Throwable e) { }
+            @Override public void onComplete() { }
+        });
+        return subscriptions.get(0);
+    }
 }
@@ -15,20 +15,32 @@
  */
 package io.reactivex.rxjavafx.schedulers;
 
+import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjavafx.transformers.FxObservableTransformers;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.InOrder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -215,6 +227,486 @@ public final class JavaFxSchedulerTest {
         w.dispose();
     }
 
+    @Test
+    public void testPulseSchedulerSharesOneQueue() throws Exception {
+        final JavaFxPulseScheduler scheduler = new JavaFxPulseScheduler();
+        final Scheduler.Worker[] workers = new Scheduler.Worker[100];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = scheduler.createWorker();
+        }
+
+        final CountDownLatch latch = new CountDownLatch(10_000);
+        final AtomicBoolean offFxThread = new AtomicBoolean();
+
+        new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                workers[i % workers.length].schedule(() -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offFxThread.set(true);
+                    }
+                    latch.countDown();
+                });
+            }
+        }).start();
+
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertFalse(offFxThread.get());
+
+        final Runnable disposedAction = mock(Runnable.class);
+        workers[0].dispose();
+        workers[0].schedule(disposedAction);
+        waitForEmptyEventQueue();
+        verify(disposedAction, never()).run();
+    }
+
+    @Test
+    public void testAllocationFreeWorkerKeepsOrder() throws Exception {
+        final Scheduler.Worker worker = JavaFxScheduler.allocationFree(4).createWorker();
+        final int producers = 4;
+        final int perProducer = 5_000;
+        final int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        final AtomicBoolean outOfOrder = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(producers * perProducer);
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    final int value = i;
+                    worker.schedule(() -> {
+                        if (!Platform.isFxApplicationThread() || last[producer] != value - 1) {
+                            outOfOrder.set(true);
+                        }
+                        last[producer] = value;
+                        latch.countDown();
+                    });
+                }
+            }).start();
+        }
+
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertFalse(outOfOrder.get());
+
+        // recursive actions are queued behind the running action
+        final List<String> recursive = new ArrayList<>();
+        final CountDownLatch recursiveLatch = new CountDownLatch(3);
+        worker.schedule(() -> {
+            for (int i = 0; i < 2; i++) {
+                final String name = "child" + i;
+                worker.schedule(() -> {
+                    recursive.add(name);
+                    recursiveLatch.countDown();
+                });
+            }
+            recursive.add("parent");
+            recursiveLatch.countDown();
+        });
+
+        if (!recursiveLatch.await(5, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertEquals(Arrays.asList("parent", "child0", "child1"), recursive);
+
+        final Runnable disposedAction = mock(Runnable.class);
+        worker.dispose();
+        assertTrue(worker.schedule(disposedAction).isDisposed());
+        waitForEmptyEventQueue();
+        verify(disposedAction, never()).run();
+    }
+
+    @Test
+    public void testPulseBudgetDefersBacklog() throws Exception {
+        final JavaFxPulseScheduler scheduler = JavaFxScheduler.platform(Duration.millis(2));
+        final Scheduler.Worker worker = scheduler.createWorker();
+        final CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            worker.schedule(() -> {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+                while (System.nanoTime() < end) {
+                    // busy work
+                }
+                latch.countDown();
+            });
+        }
+
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertEquals(0, scheduler.getBacklog());
+        assertTrue(scheduler.getBudgetExceededCount() > 0);
+        worker.dispose();
+    }
+
+    @Test
+    public void testPulseRunsAtLeastOneActionWhateverTheBudget() throws Exception {
+        // the budget is used up before any action ran
+        final JavaFxPulseScheduler scheduler = new JavaFxPulseScheduler(0L);
+        final CountDownLatch latch = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.scheduleDirect(latch::countDown);
+        }
+
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            fail("no progress with an exhausted budget");
+        }
+        assertEquals(0, scheduler.getBacklog());
+        assertTrue(scheduler.getBudgetExceededCount() > 0);
+    }
+
+    @Test
+    public void testPriorityLanesDrainHigherLanesFirst() throws Exception {
+        final JavaFxPulseScheduler normal = new JavaFxPulseScheduler();
+        final List<String> order = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(4);
+
+        // queued within one event, so they are all drained by the same pulse
+        FXUtilities.runAndWait(() -> {
+            for (JavaFxScheduler.Priority priority : Arrays.asList(JavaFxScheduler.Priority.LOW, JavaFxScheduler.Priority.NORMAL, JavaFxScheduler.Priority.HIGH)) {
+                normal.withPriority(priority).scheduleDirect(() -> {
+                    order.add(priority.name());
+                    latch.countDown();
+                });
+            }
+            normal.withPriority(JavaFxScheduler.Priority.HIGH).scheduleDirect(() -> {
+                order.add("HIGH2");
+                latch.countDown();
+            });
+        });
+
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertEquals(Arrays.asList("HIGH", "HIGH2", "NORMAL", "LOW"), order);
+        assertSame(normal, normal.withPriority(JavaFxScheduler.Priority.NORMAL));
+        assertEquals(JavaFxScheduler.Priority.HIGH, JavaFxScheduler.platform(JavaFxScheduler.Priority.HIGH).getPriority());
+    }
+
+    @Test
+    public void testLowPriorityLaneDoesNotStarve() throws Exception {
+        final JavaFxPulseScheduler high = JavaFxScheduler.platform(Duration.millis(1)).withPriority(JavaFxScheduler.Priority.HIGH);
+        final Scheduler.Worker highWorker = high.createWorker();
+        final CountDownLatch lowRan = new CountDownLatch(1);
+
+        // the high lane uses up the whole budget of every pulse
+        highWorker.schedule(new Runnable() {
+            @Override
+            public void run() {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+                while (System.nanoTime() < end) {
+                    // busy work
+                }
+                if (lowRan.getCount() != 0) {
+                    highWorker.schedule(this);
+                    highWorker.schedule(this);
+                }
+            }
+        });
+        high.withPriority(JavaFxScheduler.Priority.LOW).scheduleDirect(lowRan::countDown);
+
+        if (!lowRan.await(5, TimeUnit.SECONDS)) {
+            fail("the low priority lane starved");
+        }
+        highWorker.dispose();
+    }
+
+    @Test
+    public void testCoalescingSchedulerRunsLatestActionPerKey() throws Exception {
+        final CoalescingScheduler scheduler = JavaFxScheduler.coalescing();
+        final List<String> applied = new ArrayList<>();
+        final CountDownLatch hold = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                hold.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        for (int i = 0; i < 100; i++) {
+            final String value = "a" + i;
+            scheduler.schedule("a", () -> applied.add(value));
+        }
+        scheduler.schedule("b", () -> applied.add("b"));
+        scheduler.schedule("c", () -> applied.add("c"));
+        assertTrue(scheduler.cancel("c"));
+        assertFalse(scheduler.cancel("c"));
+        assertEquals(2, scheduler.getPendingCount());
+        assertEquals(99, scheduler.getCoalescedCount());
+
+        hold.countDown();
+        waitForEmptyEventQueue();
+        JavaFxScheduler.pulse().scheduleDirect(done::countDown);
+        if (!done.await(5, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        assertEquals(0, scheduler.getPendingCount());
+        assertEquals(2, applied.size());
+        assertTrue(applied.containsAll(Arrays.asList("a99", "b")));
+    }
+
+    @Test
+    public void testIdleSchedulerYieldsBeforeTheNextFrame() throws Exception {
+        final Scheduler.Worker worker = JavaFxScheduler.idle().createWorker();
+        final AtomicInteger pulses = new AtomicInteger();
+        final AtomicInteger[] runsPerPulse = new AtomicInteger[10_000];
+        final AtomicBoolean offFxThread = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(50);
+        final AnimationTimer[] counter = new AnimationTimer[1];
+
+        FXUtilities.runAndWait(() -> {
+            counter[0] = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    pulses.incrementAndGet();
+                }
+            };
+            counter[0].start();
+        });
+
+        for (int i = 0; i < 50; i++) {
+            worker.schedule(() -> {
+                if (!Platform.isFxApplicationThread()) {
+                    offFxThread.set(true);
+                }
+                int pulse = pulses.get();
+                if (runsPerPulse[pulse] == null) {
+                    runsPerPulse[pulse] = new AtomicInteger();
+                }
+                runsPerPulse[pulse].incrementAndGet();
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+                while (System.nanoTime() < end) {
+                    // busy work
+                }
+                latch.countDown();
+            });
+        }
+
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        FXUtilities.runAndWait(() -> counter[0].stop());
+        assertFalse(offFxThread.get());
+        for (AtomicInteger runs : runsPerPulse) {
+            // the idle time of a frame has room for about six of these actions
+            assertTrue(runs == null || runs.get() <= 7);
+        }
+        worker.dispose();
+    }
+
+    @Test
+    public void testVirtualTimeScheduler() {
+        final TestObserver<Long> interval;
+        final TestObserver<Long> timer;
+        final List<String> coalesced = new ArrayList<>();
+
+        try (TestJavaFxScheduler scheduler = TestJavaFxScheduler.install()) {
+            interval = Observable.interval(1, TimeUnit.SECONDS, JavaFxScheduler.platform()).test();
+            timer = Observable.timer(500, TimeUnit.MILLISECONDS, JavaFxScheduler.pulse()).test();
+            final CoalescingScheduler cells = JavaFxScheduler.coalescing();
+            cells.schedule("cell", () -> coalesced.add("first"));
+            cells.schedule("cell", () -> coalesced.add("second"));
+
+            try {
+                TestJavaFxScheduler.install();
+                fail("only one test scheduler can be installed");
+            } catch (IllegalStateException expected) {
+            }
+
+            scheduler.triggerActions();
+            assertEquals(Arrays.asList("second"), coalesced);
+            interval.assertNoValues();
+
+            scheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+            interval.assertValues(0L, 1L, 2L);
+            timer.assertResult(0L);
+            assertEquals(3000, JavaFxScheduler.platform().now(TimeUnit.MILLISECONDS));
+            interval.dispose();
+        }
+
+        assertNotEquals(3000, JavaFxScheduler.platform().now(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFxThreadMonitorRecordsTasksAndStalls() throws Exception {
+        final List<FxThreadMonitor.Stall> stalls = new CopyOnWriteArrayList<>();
+        final FxThreadMonitor monitor = FxThreadMonitor.start(20, TimeUnit.MILLISECONDS, stalls::add);
+        try {
+            final CountDownLatch latch = new CountDownLatch(3);
+            final Scheduler.Worker worker = JavaFxScheduler.platform().createWorker();
+            worker.schedule(latch::countDown);
+            worker.schedule(() -> {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+                while (System.nanoTime() < end) {
+                    // busy work
+                }
+                latch.countDown();
+            });
+            Observable.just(1)
+                    .compose(FxObservableTransformers.doOnNextFx(i -> latch.countDown()))
+                    .subscribe();
+
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                fail("timed out waiting for tasks to execute");
+            }
+            waitForEmptyEventQueue();
+
+            assertEquals(3, monitor.getRunTime().getCount());
+            assertEquals(3, monitor.getQueueDelay().getCount());
+            assertTrue(monitor.getRunTime().getMax(TimeUnit.MILLISECONDS) >= 100);
+            assertTrue(monitor.getRunTime().getValueAtPercentile(50, TimeUnit.MILLISECONDS) < 100);
+            assertEquals(1, monitor.getStallCount());
+            assertEquals(1, stalls.size());
+            assertTrue(stalls.get(0).getDuration(TimeUnit.MILLISECONDS) >= 20);
+            assertTrue(Arrays.stream(stalls.get(0).getStackTrace())
+                    .anyMatch(e -> e.getClassName().startsWith(JavaFxSchedulerTest.class.getName())));
+            worker.dispose();
+        } finally {
+            monitor.dispose();
+        }
+
+        assertTrue(monitor.isDisposed());
+        final Runnable task = () -> { };
+        assertSame(task, FxThreadMonitor.instrument(task));
+    }
+
+    @Test
+    public void testFxThreadMonitorTimesOnlyTheOutermostTask() throws Exception {
+        final FxThreadMonitor monitor = FxThreadMonitor.start(1, TimeUnit.SECONDS, stall -> { });
+        try {
+            final CountDownLatch done = new CountDownLatch(1);
+            new JavaFxScheduler().createWorker().schedule(() -> {
+                FxThreadMonitor.run(() -> { }, FxThreadMonitor.enqueued());
+                done.countDown();
+            });
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            waitForEmptyEventQueue();
+
+            assertEquals(1, monitor.getRunTime().getCount());
+            assertEquals(2, monitor.getQueueDelay().getCount());
+        } finally {
+            monitor.dispose();
+        }
+    }
+
+    @Test
+    public void testLatencyHistogramBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100, histogram.getMax(TimeUnit.MILLISECONDS));
+        assertEquals(50, histogram.getMean(TimeUnit.MILLISECONDS));
+        // values are known to within one eighth of their power of two
+        long p50 = histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 9 / 8);
+        assertEquals(100, histogram.getValueAtPercentile(100, TimeUnit.MILLISECONDS));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void testDelayedActionsAndCancellation() throws Exception {
+        final Scheduler.Worker worker = new JavaFxScheduler().createWorker();
+        final CountDownLatch latch = new CountDownLatch(500);
+        final int[] executed = { 0 };
+        final Disposable[] disposables = new Disposable[1000];
+
+        for (int i = 0; i < 1000; i++) {
+            disposables[i] = worker.schedule(() -> {
+                assertTrue(Platform.isFxApplicationThread());
+                executed[0]++;
+                latch.countDown();
+            }, 50 + i % 100, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            disposables[i].dispose();
+        }
+
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            fail("timed out waiting for tasks to execute");
+        }
+        Thread.sleep(200);
+        waitForEmptyEventQueue();
+        assertEquals(500, executed[0]);
+        worker.dispose();
+    }
+
+    @Test
+    public void testIntervalOnTimerWheel() throws Exception {
+        final AtomicBoolean offFxThread = new AtomicBoolean();
+        final long start = System.nanoTime();
+
+        final List<Long> ticks = Observable.interval(20, TimeUnit.MILLISECONDS, JavaFxScheduler.platform())
+                .doOnNext(t -> {
+                    if (!Platform.isFxApplicationThread()) {
+                        offFxThread.set(true);
+                    }
+                })
+                .take(10)
+                .toList()
+                .timeout(5, TimeUnit.SECONDS)
+                .blockingGet();
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), ticks);
+        assertFalse(offFxThread.get());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    public void testPeriodicWorkersApplyTheScheduleHook() throws Exception {
+        final List<Runnable> scheduled = new CopyOnWriteArrayList<>();
+        final List<Runnable> hooked = new CopyOnWriteArrayList<>();
+        RxJavaPlugins.setScheduleHandler(r -> {
+            hooked.add(r);
+            return r;
+        });
+        try {
+            for (Scheduler scheduler : Arrays.asList(new JavaFxScheduler(), JavaFxScheduler.allocationFree(4), JavaFxScheduler.pulse())) {
+                final Scheduler.Worker worker = scheduler.createWorker();
+                final CountDownLatch ticks = new CountDownLatch(2);
+                final Runnable tick = ticks::countDown;
+                scheduled.add(tick);
+                worker.schedulePeriodically(tick, 0, 10, TimeUnit.MILLISECONDS);
+                assertTrue(ticks.await(5, TimeUnit.SECONDS));
+                worker.dispose();
+            }
+            assertTrue(hooked.containsAll(scheduled));
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    public void testRingBufferWorkerRoutesActionErrorsToThePlugins() throws Exception {
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        try {
+            final Scheduler.Worker worker = JavaFxScheduler.allocationFree(4).createWorker();
+            final CountDownLatch latch = new CountDownLatch(1);
+            worker.schedule(() -> {
+                throw new IllegalStateException("boom");
+            });
+            worker.schedule(latch::countDown);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            worker.dispose();
+            assertEquals(1, errors.size());
+            assertEquals("boom", errors.get(0).getMessage());
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
     /*
      * based on http://www.guigarage.com/2013/01/invokeandwait-for-javafx/
      * by hendrikebbers
@@ -15,23 +15,40 @@
  */
 package io.reactivex.rxjavafx.sources;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.reactivex.rxjavafx.observables.JavaFxFlowable;
 import io.reactivex.rxjavafx.observables.JavaFxObservable;
 import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public final class JavaFxObservableTest {
@@ -222,6 +239,309 @@ public final class JavaFxObservableTest {
     }
 
 
+    @Test
+    public void testBatchChangesOfList() {
+        ObservableList<String> sourceList = FXCollections.observableArrayList("Alpha", "Beta");
+        TestObserver<ListChangeBatch<String>> batches = JavaFxObservable.batchChangesOf(sourceList).test();
+
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add("Row" + i);
+        }
+        sourceList.setAll(rows);
+        FXCollections.sort(sourceList, Comparator.reverseOrder());
+
+        batches.assertValueCount(2);
+
+        ListChangeBatch.SubChange<String> replace = batches.values().get(0).getSubChanges().get(0);
+        assertTrue(replace.wasReplaced());
+        assertEquals(0, replace.getFrom());
+        assertEquals(1000, replace.getTo());
+        assertEquals(Arrays.asList("Alpha", "Beta"), replace.getRemoved());
+        assertEquals(rows, replace.getAddedSubList());
+
+        ListChangeBatch.SubChange<String> sort = batches.values().get(1).getSubChanges().get(0);
+        assertTrue(sort.wasPermutated());
+        assertEquals(1000, sort.getPermutation().length);
+        assertEquals(sourceList.indexOf("Row0"), sort.getPermutation(0));
+
+        // the batch is a copy and not affected by later changes
+        sourceList.clear();
+        assertEquals(1000, replace.getAddedSubList().size());
+        batches.dispose();
+    }
+
+    @Test
+    public void testListChangesKeepACopyInSync() {
+        ObservableList<String> sourceList = FXCollections.observableArrayList("Delta", "Alpha");
+        List<String> replica = new ArrayList<>(sourceList);
+        List<ListChange<String>> permutations = new ArrayList<>();
+
+        JavaFxObservable.changesOf(sourceList).subscribe(change -> {
+            switch (change.getFlag()) {
+                case REMOVED:
+                    assertEquals(change.getValue(), replica.remove(change.getSourceIndex()));
+                    break;
+                case ADDED:
+                    replica.add(change.getTargetIndex(), change.getValue());
+                    break;
+                case PERMUTATED:
+                    permutations.add(change);
+                    replica.set(change.getTargetIndex(), change.getValue());
+                    break;
+                case UPDATED:
+                    replica.set(change.getTargetIndex(), change.getValue());
+                    break;
+            }
+        });
+
+        sourceList.addAll(1, Arrays.asList("Echo", "Bravo", "Charlie"));
+        sourceList.remove(0, 2);
+        sourceList.set(1, "Foxtrot");
+        FXCollections.sort(sourceList);
+        sourceList.setAll("Golf", "Hotel");
+        FXCollections.sort(sourceList, Comparator.reverseOrder());
+        sourceList.add("India");
+
+        assertEquals(sourceList, replica);
+        assertEquals(5, permutations.size());
+        assertEquals("Alpha", permutations.get(2).getValue());
+        assertEquals(2, permutations.get(2).getSourceIndex());
+        assertEquals(0, permutations.get(2).getTargetIndex());
+    }
+
+    @Test
+    public void testSharedValuesUseOneListener() throws Exception {
+        AtomicInteger listeners = new AtomicInteger();
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1) {
+            @Override
+            public void addListener(ChangeListener<? super Number> listener) {
+                listeners.incrementAndGet();
+                super.addListener(listener);
+            }
+
+            @Override
+            public void removeListener(ChangeListener<? super Number> listener) {
+                listeners.decrementAndGet();
+                super.removeListener(listener);
+            }
+        };
+
+        List<TestObserver<Number>> values = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            values.add(JavaFxObservable.sharedValuesOf(property).test());
+        }
+        TestObserver<Change<Number>> changes = JavaFxObservable.sharedChangesOf(property).test();
+        assertEquals(2, listeners.get());
+
+        property.set(2);
+        for (TestObserver<Number> observer : values) {
+            observer.assertValues(1, 2);
+        }
+        changes.assertValueCount(1);
+        // a late subscriber starts with the current value
+        JavaFxObservable.sharedValuesOf(property).test().assertValues(2).dispose();
+
+        values.forEach(TestObserver::dispose);
+        changes.dispose();
+        // the disposals made off the JavaFX thread are run on the next pulse
+        for (int i = 0; i < 100 && listeners.get() != 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, listeners.get());
+    }
+
+    @Test
+    public void testSharedValuesSurviveGcWithoutTheDisposable() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1);
+        List<Number> values = new ArrayList<>();
+        List<Change<Number>> changes = new ArrayList<>();
+        // fire and forget, nobody keeps the Disposables
+        JavaFxObservable.sharedValuesOf(property).subscribe(values::add);
+        JavaFxObservable.sharedChangesOf(property).subscribe(changes::add);
+
+        for (int i = 2; i <= 4; i++) {
+            System.gc();
+            property.set(i);
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4), values);
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void testWeakSourcesCompleteWhenTheSourceIsCollected() throws Exception {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1);
+        ObservableList<String> list = FXCollections.observableArrayList();
+        TestObserver<Number> values = JavaFxObservable.weak().valuesOf(property).test();
+        TestObserver<ListChange<String>> changes = JavaFxObservable.weak().changesOf(list).test();
+
+        property.set(2);
+        list.add("Alpha");
+        values.assertValues(1, 2).assertNotComplete();
+        changes.assertValueCount(1).assertNotComplete();
+
+        property = null;
+        list = null;
+        // the completion is delivered on the JavaFX thread once the cleaner saw the sources go
+        for (int i = 0; i < 100 && !(values.await(20, TimeUnit.MILLISECONDS) && changes.await(20, TimeUnit.MILLISECONDS)); i++) {
+            System.gc();
+        }
+        values.assertComplete().assertValues(1, 2);
+        changes.assertComplete().assertValueCount(1);
+    }
+
+    @Test
+    public void testWeakSourcesKeepEmittingWithoutTheDisposable() {
+        SimpleStringProperty property = new SimpleStringProperty("a");
+        List<String> seen = new ArrayList<>();
+        // fire and forget, only the property references the subscription
+        JavaFxObservable.weak().valuesOf(property).subscribe(seen::add);
+
+        property.set("b");
+        System.gc();
+        property.set("c");
+        assertEquals(Arrays.asList("a", "b", "c"), seen);
+    }
+
+    @Test
+    public void testWeakSourceCompletesTheKeptSubscription() throws Exception {
+        SimpleStringProperty property = new SimpleStringProperty("a");
+        List<String> seen = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Disposable subscription = JavaFxObservable.weak().valuesOf(property)
+                .subscribe(seen::add, Throwable::printStackTrace, completed::countDown);
+        property.set("b");
+
+        property = null;
+        for (int i = 0; i < 100 && !completed.await(20, TimeUnit.MILLISECONDS); i++) {
+            System.gc();
+        }
+        assertEquals(0, completed.getCount());
+        assertEquals(Arrays.asList("a", "b"), seen);
+        assertTrue(subscription.isDisposed());
+    }
+
+    @Test
+    public void testWeakSourceReferencedBySubscriberIsCollected() throws Exception {
+        WeakReference<SimpleIntegerProperty> collected = subscribeReferencingTheSource();
+        for (int i = 0; i < 100 && collected.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(collected.get() == null);
+    }
+
+    private static WeakReference<SimpleIntegerProperty> subscribeReferencingTheSource() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1);
+        List<Integer> seen = new ArrayList<>();
+        // the subscriber references the source, like a controller observing its own dialog
+        JavaFxObservable.weak().valuesOf(property).subscribe(v -> seen.add(property.get()));
+        property.set(2);
+        assertEquals(Arrays.asList(1, 2), seen);
+        return new WeakReference<>(property);
+    }
+
+    @Test
+    public void testPrimitiveValueSources() throws Exception {
+        SimpleDoubleProperty position = new SimpleDoubleProperty(1.0);
+        TestObserver<Double> distinct = JavaFxObservable.doubleValuesOf(position).test();
+        TestObserver<Double> coarse = JavaFxObservable.doubleValuesOf(position, 0.5).test();
+        position.set(1.0);
+        position.set(1.2);
+        position.set(1.4);
+        position.set(1.6);
+        distinct.assertValues(1.0, 1.2, 1.4, 1.6);
+        coarse.assertValues(1.0, 1.6);
+
+        SimpleLongProperty ticks = new SimpleLongProperty(Long.MIN_VALUE);
+        TestObserver<Long> longs = JavaFxObservable.longValuesOf(ticks, 10).test();
+        ticks.set(Long.MAX_VALUE);
+        ticks.set(Long.MAX_VALUE - 5);
+        longs.assertValues(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // the sampled source reads a lazily evaluated binding once per pulse
+        SimpleIntegerProperty count = new SimpleIntegerProperty(0);
+        AtomicInteger evaluations = new AtomicInteger();
+        IntegerBinding doubled = Bindings.createIntegerBinding(() -> {
+            evaluations.incrementAndGet();
+            return count.get() * 2;
+        }, count);
+        CountDownLatch emitted = new CountDownLatch(2);
+        List<Integer> sampled = new CopyOnWriteArrayList<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            JavaFxObservable.intValuesOnPulse(doubled, 0).subscribe(v -> {
+                sampled.add(v);
+                emitted.countDown();
+            });
+            evaluations.set(0);
+            for (int i = 1; i <= 100; i++) {
+                count.set(i);
+            }
+            subscribed.countDown();
+        });
+        subscribed.await();
+        assertTrue(emitted.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(0, 200), sampled);
+        assertEquals(1, evaluations.get());
+
+        distinct.dispose();
+        coarse.dispose();
+        longs.dispose();
+    }
+
+    private static final class NumberedEvent extends Event {
+        private static final long serialVersionUID = 1L;
+
+        static final EventType<NumberedEvent> NUMBERED = new EventType<>(Event.ANY, "NUMBERED");
+        final int number;
+
+        NumberedEvent(int number) {
+            super(NUMBERED);
+            this.number = number;
+        }
+    }
+
+    @Test
+    public void testFlowableSourcesHonourBackpressure() throws Exception {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1);
+        TestSubscriber<Number> values = JavaFxFlowable.valuesOf(property).test(0);
+        property.set(2);
+        property.set(3);
+        values.assertNoValues();
+        values.request(1);
+        values.assertValues(3);
+
+        ObservableList<String> sourceList = FXCollections.observableArrayList();
+        TestSubscriber<String> additions = JavaFxFlowable.additionsOf(sourceList).test(0);
+        // the listener is added on the JavaFX thread, wait for it before changing the list
+        CountDownLatch subscribed = new CountDownLatch(1);
+        Platform.runLater(subscribed::countDown);
+        subscribed.await();
+        sourceList.addAll("Alpha", "Beta", "Gamma");
+        additions.request(Long.MAX_VALUE);
+        additions.assertValues("Alpha", "Beta", "Gamma");
+
+        Pane node = new Pane();
+        TestSubscriber<NumberedEvent> events = JavaFxFlowable.eventsOf(node, NumberedEvent.NUMBERED).test(0);
+        CountDownLatch firedAll = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            for (int i = 0; i < Flowable.bufferSize() + 10; i++) {
+                Event.fireEvent(node, new NumberedEvent(i));
+            }
+            firedAll.countDown();
+        });
+        firedAll.await();
+        events.request(Long.MAX_VALUE);
+        // the oldest events were dropped
+        events.assertValueCount(Flowable.bufferSize());
+        assertEquals(10, events.values().get(0).number);
+        events.assertNoErrors();
+        values.cancel();
+        additions.cancel();
+        events.cancel();
+    }
+
     @Test
     public void testRxObservableListDistinctChangeMappings() {
 
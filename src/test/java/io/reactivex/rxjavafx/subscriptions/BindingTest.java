@@ -17,16 +17,31 @@ package io.reactivex.rxjavafx.subscriptions;
 
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.TestObserver;
 import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjavafx.observables.JavaFxObservable;
+import io.reactivex.rxjavafx.observers.DiffingObservableList;
 import io.reactivex.rxjavafx.observers.JavaFxObserver;
 import io.reactivex.rxjavafx.observers.JavaFxSubscriber;
 import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
+import io.reactivex.rxjavafx.schedulers.TestJavaFxScheduler;
 import io.reactivex.rxjava3.subjects.PublishSubject;
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.beans.binding.Binding;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -275,6 +290,194 @@ public final class BindingTest {
         }
     }
 
+    @Test
+    public void testPrimitiveBindings() {
+        PublishSubject<Double> doubles = PublishSubject.create();
+        PublishProcessor<Integer> ints = PublishProcessor.create();
+        PublishSubject<Long> longs = PublishSubject.create();
+        PublishProcessor<Boolean> booleans = PublishProcessor.create();
+
+        DoubleBinding progress = JavaFxObserver.toDoubleBinding(doubles);
+        IntegerBinding count = JavaFxSubscriber.toIntegerBinding(ints);
+        LongBinding total = JavaFxObserver.toLongBinding(longs);
+        BooleanBinding done = JavaFxSubscriber.toBooleanBinding(booleans);
+        DoubleBinding percent = progress.multiply(100);
+
+        assertEquals(0.0, percent.get(), 0.0);
+        doubles.onNext(0.25);
+        ints.onNext(3);
+        longs.onNext(Long.MAX_VALUE);
+        booleans.onNext(true);
+        assertEquals(25.0, percent.get(), 0.0);
+        assertEquals(3, count.get());
+        assertEquals(Long.MAX_VALUE, total.get());
+        assertTrue(done.get());
+
+        AtomicInteger changes = new AtomicInteger();
+        count.addListener((o, prev, current) -> changes.incrementAndGet());
+        ints.onNext(4);
+        ints.onNext(5);
+        assertEquals(2, changes.get());
+        assertEquals(5, count.get());
+
+        progress.dispose();
+        count.dispose();
+        total.dispose();
+        done.dispose();
+        assertFalse(doubles.hasObservers());
+        assertFalse(ints.hasSubscribers());
+        assertFalse(longs.hasObservers());
+        assertFalse(booleans.hasSubscribers());
+    }
+
+    @Test
+    public void testConflatedBindingFiresOncePerPulse() throws Exception {
+        final int count = 100_000;
+        final PublishSubject<Integer> subject = PublishSubject.create();
+        final Binding<Integer> binding = JavaFxObserver.toConflatedBinding(subject);
+        final AtomicInteger changes = new AtomicInteger();
+        final AtomicInteger offThread = new AtomicInteger();
+        final CountDownLatch last = new CountDownLatch(1);
+
+        CountDownLatch listening = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            binding.addListener((o, prev, current) -> {
+                changes.incrementAndGet();
+                if (!Platform.isFxApplicationThread()) {
+                    offThread.incrementAndGet();
+                }
+                if (current == count) {
+                    last.countDown();
+                }
+            });
+            listening.countDown();
+        });
+        listening.await();
+
+        for (int i = 1; i <= count; i++) {
+            subject.onNext(i);
+        }
+
+        assertTrue(last.await(10, TimeUnit.SECONDS));
+        assertEquals(0, offThread.get());
+        assertTrue(changes.get() < count / 10);
+        assertEquals(count, (int) binding.getValue());
+        binding.dispose();
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    public void testDiffingObservableList() throws Exception {
+        final PublishSubject<List<String>> snapshots = PublishSubject.create();
+        final DiffingObservableList<String> list = JavaFxObserver.toObservableList(snapshots, s -> s.substring(0, 1));
+        final List<String> copy = new ArrayList<>();
+        final AtomicInteger changes = new AtomicInteger();
+        final AtomicInteger touched = new AtomicInteger();
+        list.addListener((ListChangeListener<String>) c -> {
+            changes.incrementAndGet();
+            while (c.next()) {
+                // replay the change on a copy, so the change events must describe the list exactly
+                copy.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                copy.addAll(c.getFrom(), c.getAddedSubList());
+                touched.addAndGet(Math.max(c.getRemovedSize(), c.getAddedSize()));
+            }
+        });
+
+        assertSnapshot(snapshots, list, Arrays.asList("a", "b", "c", "d", "e", "f"));
+        assertEquals(list, copy);
+
+        // moving one item and changing another touches only those
+        changes.set(0);
+        touched.set(0);
+        assertSnapshot(snapshots, list, Arrays.asList("a", "e", "b", "c2", "d", "f"));
+        assertEquals(list, copy);
+        assertEquals(1, changes.get());
+        assertEquals(3, touched.get());
+
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<String> snapshot = new ArrayList<>();
+            for (char key = 'a'; key <= 'z'; key++) {
+                if (random.nextInt(3) != 0) {
+                    snapshot.add(key + String.valueOf(random.nextInt(3)));
+                }
+            }
+            Collections.shuffle(snapshot.subList(0, snapshot.size() / 4), random);
+            assertSnapshot(snapshots, list, snapshot);
+            assertEquals(list, copy);
+        }
+
+        // a duplicate key replaces the content
+        assertSnapshot(snapshots, list, Arrays.asList("a", "a2", "b"));
+        assertEquals(list, copy);
+
+        list.dispose();
+        assertTrue(list.isDisposed());
+        assertFalse(snapshots.hasObservers());
+    }
+
+    private static void assertSnapshot(PublishSubject<List<String>> snapshots, List<String> list, List<String> snapshot) throws Exception {
+        snapshots.onNext(snapshot);
+        for (int i = 0; i < 500; i++) {
+            CompletableFuture<Boolean> applied = new CompletableFuture<>();
+            Platform.runLater(() -> applied.complete(list.equals(snapshot)));
+            if (applied.get(5, TimeUnit.SECONDS)) {
+                return;
+            }
+            sleep(10);
+        }
+        fail("snapshot not applied " + snapshot + " " + list);
+    }
+
+    @Test
+    public void testDisposalsOffTheFxThreadAreBatched() throws Exception {
+        final int count = 10_000;
+        final CountDownLatch removed = new CountDownLatch(count);
+        final AtomicInteger offThread = new AtomicInteger();
+        final TestObserver<Long> pulses = JavaFxObservable.pulses().test();
+        pulses.awaitCount(1);
+        final long drains = JavaFxSubscriptions.getDisposalDrainCount();
+        final long queued = JavaFxSubscriptions.getQueuedDisposalCount();
+        final int pulsesBefore = pulses.values().size();
+
+        // a steady trickle, not one burst
+        for (int i = 0; i < count; i++) {
+            JavaFxSubscriptions.unsubscribeInEventDispatchThread(() -> {
+                if (!Platform.isFxApplicationThread()) {
+                    offThread.incrementAndGet();
+                }
+                removed.countDown();
+            }).dispose();
+            if (i % 50 == 0) {
+                sleep(1);
+            }
+        }
+
+        assertTrue(removed.await(10, TimeUnit.SECONDS));
+        final long drained = JavaFxSubscriptions.getDisposalDrainCount() - drains;
+        final int pulsed = pulses.values().size() - pulsesBefore;
+        assertEquals(0, offThread.get());
+        assertEquals(count, JavaFxSubscriptions.getQueuedDisposalCount() - queued);
+        assertEquals(0, JavaFxSubscriptions.getPendingDisposalCount());
+        // at most one drain per pulse, the pulse which is running when we stop counting may be missing
+        assertTrue(drained + " drains in " + pulsed + " pulses", drained <= pulsed + 1);
+        pulses.dispose();
+    }
+
+    @Test
+    public void testDisposalsDontDependOnTheInstalledScheduler() throws Exception {
+        CountDownLatch removed = new CountDownLatch(2);
+        TestJavaFxScheduler scheduler = TestJavaFxScheduler.install();
+        try {
+            // virtual time is never advanced, the disposal must still reach the JavaFX thread
+            JavaFxSubscriptions.unsubscribeInEventDispatchThread(removed::countDown).dispose();
+        } finally {
+            scheduler.close();
+        }
+        JavaFxSubscriptions.unsubscribeInEventDispatchThread(removed::countDown).dispose();
+        assertTrue(removed.await(5, TimeUnit.SECONDS));
+    }
+
     private static void sleep(int millis) {
         try {
             Thread.sleep(millis);